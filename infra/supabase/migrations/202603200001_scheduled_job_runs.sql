@@ -0,0 +1,14 @@
+-- Claims for scheduled engine jobs that must run on one instance only (e.g. daily fortune pre-generation)
+-- Date: 2026-03-20
+
+create table if not exists public.scheduled_job_runs (
+  id uuid primary key default gen_random_uuid(),
+  job_name text not null,
+  run_key text not null,
+  claimed_by text,
+  claimed_at timestamptz not null default now(),
+  constraint uq_scheduled_job_runs_job_run unique (job_name, run_key)
+);
+
+-- Service role only; no client policies.
+alter table public.scheduled_job_runs enable row level security;
@@ -0,0 +1,21 @@
+-- Background AI interpretation jobs (reports:interpret/jobs), so any instance can answer a status poll
+-- Date: 2026-03-20
+
+create table if not exists public.ai_interpretation_jobs (
+  id uuid primary key,
+  user_id uuid not null references public.profiles(id) on delete cascade,
+  chart_id text not null,
+  status text not null default 'queued',
+  error_code text,
+  error_message text,
+  created_at timestamptz not null default now(),
+  finished_at timestamptz,
+  constraint ai_interpretation_jobs_status_check
+    check (status in ('queued', 'running', 'succeeded', 'failed'))
+);
+
+create index if not exists idx_ai_interpretation_jobs_created_at
+  on public.ai_interpretation_jobs (created_at);
+
+-- Service role only; clients poll through the engine API.
+alter table public.ai_interpretation_jobs enable row level security;
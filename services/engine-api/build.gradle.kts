@@ -17,6 +17,19 @@ repositories {
     mavenCentral()
 }
 
+// JMH benchmarks live in src/jmh/java and run with `gradle jmh` (optionally -PjmhIncludes=<regex>).
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets["main"].output
+        runtimeClasspath += sourceSets["main"].output
+    }
+}
+
+configurations {
+    named("jmhImplementation") { extendsFrom(configurations["implementation"]) }
+    named("jmhRuntimeOnly") { extendsFrom(configurations["runtimeOnly"]) }
+}
+
 fun loadDotEnv(envFile: File): Map<String, String> {
     if (!envFile.exists()) return emptyMap()
     val map = mutableMapOf<String, String>()
@@ -51,12 +64,29 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("com.squareup.okhttp3:mockwebserver:4.12.0")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs JMH benchmarks and writes JSON results to build/reports/jmh."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    doFirst { resultFile.get().asFile.parentFile.mkdirs() }
+    args = listOfNotNull(
+        (project.findProperty("jmhIncludes") as String?) ?: ".*Benchmark.*",
+        "-rf", "json",
+        "-rff", resultFile.get().asFile.absolutePath
+    )
+}
+
 // Make IntelliJ "Run" (Gradle bootRun) work out of the box by loading services/engine-api/.env.
 // The file is gitignored, so no secrets are committed.
 tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
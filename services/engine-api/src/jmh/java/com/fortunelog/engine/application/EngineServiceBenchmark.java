@@ -0,0 +1,91 @@
+package com.fortunelog.engine.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunelog.engine.application.dto.GenerateDailyFortuneRequest;
+import com.fortunelog.engine.domain.model.DailyFortuneResult;
+import com.fortunelog.engine.infra.llm.OpenAiAnalysisClient;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineServiceBenchmark {
+
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+    private static final int DATES = 64;
+
+    private EngineService engineService;
+    private final GenerateDailyFortuneRequest[] requests = new GenerateDailyFortuneRequest[DATES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        engineService = new EngineService(
+                new InMemoryPersistence(objectMapper),
+                new OpenAiAnalysisClient(objectMapper, "", "gpt-5-mini", "", 1000)
+        );
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < DATES; i++) {
+            requests[i] = new GenerateDailyFortuneRequest("chart-1", start.plusDays(i).toString());
+        }
+    }
+
+    // Includes serializing the content once, which now replaces the upsert and response serialization.
+    @Benchmark
+    public DailyFortuneResult generateDailyFortune() {
+        return engineService.generateDailyFortune(USER_ID, requests[cursor++ & (DATES - 1)]);
+    }
+
+    // Serves the chart snapshot from memory and drops writes, so only engine-side work is measured.
+    private static final class InMemoryPersistence extends SupabasePersistenceService {
+
+        private final ChartSnapshot snapshot = new ChartSnapshot(
+                Map.of("year", "갑술", "month", "기사", "day", "신축", "hour", "기해"),
+                Map.of("wood", 1, "fire", 1, "earth", 4, "metal", 1, "water", 1)
+        );
+
+        InMemoryPersistence(ObjectMapper objectMapper) {
+            super(objectMapper, "http://localhost", "bench", 0, 0, 1000);
+        }
+
+        @Override
+        public boolean isProfileDeactivated(String userId) {
+            return false;
+        }
+
+        @Override
+        public ChartSnapshot findChartSnapshot(String userId, String chartId) {
+            return snapshot;
+        }
+
+        @Override
+        public String upsertDailyFortuneReport(
+                String userId,
+                String chartId,
+                LocalDate targetDate,
+                byte[] contentJson,
+                boolean isPaidContent,
+                boolean visible
+        ) {
+            return "report-1";
+        }
+    }
+}
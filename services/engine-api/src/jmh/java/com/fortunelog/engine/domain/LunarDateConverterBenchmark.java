@@ -0,0 +1,55 @@
+package com.fortunelog.engine.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LunarDateConverterBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private final LunarDateConverter converter = new LunarDateConverter();
+    private final int[] years = new int[INPUTS];
+    private final int[] months = new int[INPUTS];
+    private final int[] days = new int[INPUTS];
+    private final LocalDate[] solarDates = new LocalDate[INPUTS];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // Spread birth years over the supported range so the old per-year loop is measured fairly.
+        for (int i = 0; i < INPUTS; i++) {
+            years[i] = 1900 + (i * 37) % 200;
+            months[i] = 1 + (i * 7) % 12;
+            days[i] = 1 + (i * 11) % 29;
+            solarDates[i] = converter.toSolarDate(years[i], months[i], days[i], false);
+        }
+    }
+
+    @Benchmark
+    public LocalDate toSolarDate() {
+        int i = cursor++ & (INPUTS - 1);
+        return converter.toSolarDate(years[i], months[i], days[i], false);
+    }
+
+    @Benchmark
+    public LunarDateConverter.LunarDate toLunarDate() {
+        return converter.toLunarDate(solarDates[cursor++ & (INPUTS - 1)]);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fortunelog.engine.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SajuCalculatorBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private final SajuCalculator calculator = new SajuCalculator();
+    private final LocalDateTime[] birthDateTimes = new LocalDateTime[INPUTS];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SajuCalculator.preloadSolarTerms();
+        for (int i = 0; i < INPUTS; i++) {
+            // ~36 days apart: covers 1940-2040 with varied hours and minutes.
+            birthDateTimes[i] = LocalDateTime.of(1940, 1, 1, 0, 0).plusMinutes(i * 51_331L);
+        }
+    }
+
+    @Benchmark
+    public long calculateCode() {
+        return calculator.calculateCode(birthDateTimes[cursor++ & (INPUTS - 1)], false);
+    }
+
+    // Includes building the chart/fiveElements maps returned at the API boundary.
+    @Benchmark
+    public Map<String, String> calculateWithMaps() {
+        SajuCalculator.SajuChart chart = calculator.calculate(birthDateTimes[cursor++ & (INPUTS - 1)], false);
+        chart.fiveElements();
+        return chart.chart();
+    }
+}
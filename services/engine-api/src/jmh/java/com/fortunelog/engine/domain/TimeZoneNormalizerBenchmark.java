@@ -0,0 +1,54 @@
+package com.fortunelog.engine.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeZoneNormalizerBenchmark {
+
+    private static final int INPUTS = 1024;
+    private static final String[] ZONES = {"Asia/Seoul", "America/New_York", "Europe/London", "Asia/Tokyo"};
+
+    private final TimeZoneNormalizer normalizer = new TimeZoneNormalizer();
+    private final LocalDateTime[] localDateTimes = new LocalDateTime[INPUTS];
+    private final String[] zoneIds = new String[INPUTS];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < INPUTS; i++) {
+            localDateTimes[i] = LocalDateTime.of(1940, 1, 1, 0, 0).plusMinutes(i * 51_331L);
+            zoneIds[i] = ZONES[i % ZONES.length];
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime toKst() {
+        int i = cursor++ & (INPUTS - 1);
+        return normalizer.toKst(localDateTimes[i], zoneIds[i]);
+    }
+
+    // What EngineService did before: resolve both zones and convert through ZonedDateTime.
+    @Benchmark
+    public LocalDateTime zonedDateTime() {
+        int i = cursor++ & (INPUTS - 1);
+        return localDateTimes[i].atZone(ZoneId.of(zoneIds[i])).withZoneSameInstant(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+    }
+}
@@ -0,0 +1,93 @@
+package com.fortunelog.engine.infra.llm;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OpenAiAnalysisClientBenchmark {
+
+    private OpenAiAnalysisClient client;
+    private String cleanResponse;
+    private String fencedResponse;
+    private Map<String, String> chart;
+    private Map<String, Integer> fiveElements;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        client = new OpenAiAnalysisClient(objectMapper, "bench", "gpt-5-mini", "http://localhost", 1000);
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("summary", "타고난 추진력과 섬세함이 공존하는 사주입니다. ".repeat(8));
+        content.put("coreTraits", List.of("결단력", "책임감", "관찰력", "표현력"));
+        content.put("strengths", List.of("빠른 판단과 실행", "꾸준한 자기관리", "신뢰를 쌓는 태도"));
+        content.put("cautions", List.of("과로 누적", "결론을 서두르는 습관"));
+        content.put("actionTips", List.of("하루 1개 우선순위", "주 1회 회고", "수면 리듬 고정"));
+        content.put("themes", Map.of(
+                "money", "안정적인 흐름을 유지하는 편입니다. ".repeat(4),
+                "relationship", "진심이 잘 전달되는 시기입니다. ".repeat(4),
+                "career", "전문성을 쌓을수록 기회가 넓어집니다. ".repeat(4),
+                "health", "소화기와 수면 관리가 중요합니다. ".repeat(4)
+        ));
+        content.put("disclaimer", "본 해석은 참고용입니다.");
+        String contentJson = objectMapper.writeValueAsString(content);
+
+        cleanResponse = completion(objectMapper, contentJson);
+        // Typical model noise: markdown fence plus a trailing comma before the closing brace.
+        String noisy = "```json\n" + contentJson.substring(0, contentJson.length() - 1) + ",}\n```";
+        fencedResponse = completion(objectMapper, noisy);
+
+        chart = Map.of(
+                "year", "갑자", "month", "을축", "day", "병인", "hour", "정묘",
+                "gender", "female", "name", "홍길동", "age", "34",
+                "ten_god_stems", "비견, 식신, 정재, 편관", "ten_god_branches", "겁재, 상관, 편재, 정관",
+                "twelve_states", "장생, 목욕, 관대, 건록"
+        );
+        fiveElements = Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2);
+    }
+
+    @Benchmark
+    public byte[] renderRequestBody() {
+        return client.renderRequestBody(chart, fiveElements, false, false);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseCleanResponse() {
+        return client.parseCompletionResponse(cleanResponse);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseFencedResponse() {
+        return client.parseCompletionResponse(fencedResponse);
+    }
+
+    private static String completion(ObjectMapper objectMapper, String content) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(Map.of(
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "finish_reason", "stop",
+                        "message", Map.of("role", "assistant", "content", content)
+                ))
+        ));
+    }
+}
@@ -1,66 +1,151 @@
 package com.fortunelog.engine.api;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fortunelog.engine.api.dto.BatchChartResponse;
+import com.fortunelog.engine.api.dto.ChartResponse;
+import com.fortunelog.engine.api.dto.DailyFortuneRangeResponse;
 import com.fortunelog.engine.application.AccountDeletionService;
+import com.fortunelog.engine.application.AiInterpretationJobService;
 import com.fortunelog.engine.application.EngineService;
 import com.fortunelog.engine.application.EngineVersion;
 import com.fortunelog.engine.application.PaymentWebhookService;
+import com.fortunelog.engine.application.dto.BatchCalculateChartRequest;
 import com.fortunelog.engine.application.dto.CalculateChartRequest;
 import com.fortunelog.engine.application.dto.GenerateAiInterpretationRequest;
+import com.fortunelog.engine.application.dto.GenerateDailyFortuneRangeRequest;
 import com.fortunelog.engine.application.dto.GenerateDailyFortuneRequest;
 import com.fortunelog.engine.application.dto.GenerateReportRequest;
 import com.fortunelog.engine.application.dto.RequestAccountDeletionRequest;
+import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.common.ContentETag;
+import com.fortunelog.engine.domain.model.DailyFortuneContent;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.core.env.Environment;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/engine/v1")
 public class EngineController {
 
+    private static final Logger log = LoggerFactory.getLogger(EngineController.class);
+    // Backstop for the SSE connection; the OpenAI client enforces its own request timeout.
+    private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(3);
+    private static final int MAX_JOB_WAIT_SECONDS = 30;
+
     private final EngineService engineService;
     private final PaymentWebhookService paymentWebhookService;
     private final AccountDeletionService accountDeletionService;
+    private final AiInterpretationJobService aiInterpretationJobService;
     private final Environment env;
+    // One virtual thread per open stream; streamSlots caps how many run at once (the OpenAI limiter only bounds the
+    // calls, not the threads waiting in its queue or writing fallback sections).
+    private final ExecutorService streamExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore streamSlots;
 
     public EngineController(
             EngineService engineService,
             PaymentWebhookService paymentWebhookService,
             AccountDeletionService accountDeletionService,
+            AiInterpretationJobService aiInterpretationJobService,
             Environment env
+    ) {
+        this(engineService, paymentWebhookService, accountDeletionService, aiInterpretationJobService, env, 64);
+    }
+
+    @Autowired
+    public EngineController(
+            EngineService engineService,
+            PaymentWebhookService paymentWebhookService,
+            AccountDeletionService accountDeletionService,
+            AiInterpretationJobService aiInterpretationJobService,
+            Environment env,
+            @Value("${app.ai-interpretation-stream.max-concurrent:64}") int maxConcurrentStreams
     ) {
         this.engineService = engineService;
         this.paymentWebhookService = paymentWebhookService;
         this.accountDeletionService = accountDeletionService;
+        this.aiInterpretationJobService = aiInterpretationJobService;
         this.env = env;
+        this.streamSlots = new Semaphore(Math.max(1, maxConcurrentStreams));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        streamExecutor.shutdownNow();
     }
 
     @PostMapping("/charts:calculate")
     @ResponseStatus(HttpStatus.OK)
-    public Map<String, Object> calculateChart(
+    public ChartResponse calculateChart(
             @Valid @RequestBody CalculateChartRequest request,
             @AuthenticationPrincipal Jwt jwt,
             HttpServletRequest httpRequest
     ) {
         var result = engineService.calculateChart(jwt.getSubject(), request);
-        return Map.of(
-                "requestId", requestId(httpRequest),
-                "chartId", result.chartId(),
-                "engineVersion", result.engineVersion(),
-                "chart", result.chart(),
-                "fiveElements", result.fiveElements()
+        return new ChartResponse(
+                requestId(httpRequest),
+                result.chartId(),
+                result.engineVersion(),
+                result.chart(),
+                result.fiveElements()
+        );
+    }
+
+    @PostMapping("/charts:batchCalculate")
+    @ResponseStatus(HttpStatus.OK)
+    public BatchChartResponse calculateCharts(
+            @Valid @RequestBody BatchCalculateChartRequest request,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest httpRequest
+    ) {
+        var result = engineService.calculateCharts(jwt.getSubject(), request);
+        return new BatchChartResponse(
+                requestId(httpRequest),
+                result.engineVersion(),
+                result.succeeded(),
+                result.failed(),
+                result.items()
         );
     }
 
@@ -96,26 +181,156 @@ public class EngineController {
         );
     }
 
+    // Job mode: returns 202 with a job id right away; poll GET .../jobs/{jobId} for the result.
+    @PostMapping("/reports:interpret/jobs")
+    public ResponseEntity<Map<String, Object>> submitAiInterpretationJob(
+            @Valid @RequestBody GenerateAiInterpretationRequest request,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest httpRequest
+    ) {
+        var job = aiInterpretationJobService.submit(jwt.getSubject(), request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/engine/v1/reports:interpret/jobs/" + job.jobId()))
+                .body(jobBody(requestId(httpRequest), job));
+    }
+
+    // waitSeconds > 0 long-polls: the response is sent when the job finishes or the wait elapses.
+    // The servlet thread is not held while waiting.
+    @GetMapping("/reports:interpret/jobs/{jobId}")
+    public CompletableFuture<Map<String, Object>> getAiInterpretationJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") int waitSeconds,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest httpRequest
+    ) {
+        String requestId = requestId(httpRequest);
+        Duration wait = Duration.ofSeconds(Math.max(0, Math.min(waitSeconds, MAX_JOB_WAIT_SECONDS)));
+        return aiInterpretationJobService.await(jwt.getSubject(), jobId, wait)
+                .thenApply(job -> jobBody(requestId, job));
+    }
+
+    // Server-sent events: one "section" event per interpretation section as the model finishes it, then "done"
+    // with the same body as reports:interpret, or "error" with the usual error body.
+    // The LLM call runs on a virtual thread so the servlet thread is released immediately.
+    @PostMapping(value = "/reports:interpret/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAiInterpretation(
+            @Valid @RequestBody GenerateAiInterpretationRequest request,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest httpRequest
+    ) {
+        String userId = jwt.getSubject();
+        String requestId = requestId(httpRequest);
+        if (!streamSlots.tryAcquire()) {
+            throw new ApiClientException(
+                    "AI_STREAM_LIMIT_EXCEEDED",
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    "AI 해석 요청이 많습니다. 잠시 후 다시 시도해주세요."
+            );
+        }
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+        streamExecutor.execute(() -> {
+            try {
+                var result = engineService.streamAiInterpretation(
+                        userId,
+                        request,
+                        (name, value) -> sendEvent(emitter, "section", sectionEvent(name, value))
+                );
+                sendEvent(emitter, "done", Map.of(
+                        "requestId", requestId,
+                        "chartId", result.chartId(),
+                        "reportType", result.reportType(),
+                        "content", result.content()
+                ));
+                emitter.complete();
+            } catch (UncheckedIOException e) {
+                // Client went away; nothing left to send to.
+                emitter.completeWithError(e);
+            } catch (ApiClientException e) {
+                completeWithErrorEvent(emitter, Map.of("requestId", requestId, "code", e.code(), "message", e.getMessage()));
+            } catch (RuntimeException e) {
+                log.error("ai interpretation stream failed", e);
+                completeWithErrorEvent(emitter, Map.of(
+                        "requestId", requestId,
+                        "code", "INTERNAL_ERROR",
+                        "message", "unexpected server error"
+                ));
+            } finally {
+                streamSlots.release();
+            }
+        });
+        return emitter;
+    }
+
+    // The content JSON was serialized once for the content_json upsert; the response reuses those bytes,
+    // prefixed with requestId/userId, and writes them to the servlet output stream without re-serializing.
     @PostMapping("/fortunes:daily")
-    @ResponseStatus(HttpStatus.OK)
-    public Map<String, Object> generateDailyFortune(
+    public void generateDailyFortune(
             @Valid @RequestBody GenerateDailyFortuneRequest request,
             @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) throws IOException {
+        var payload = engineService.generateDailyFortunePayload(jwt.getSubject(), request);
+        byte[] content = payload.contentJson();
+        byte[] prefix = ("{\"requestId\":\"" + jsonEscape(requestId(httpRequest))
+                + "\",\"userId\":\"" + jsonEscape(payload.result().userId()) + "\",")
+                .getBytes(StandardCharsets.UTF_8);
+
+        httpResponse.setStatus(HttpStatus.OK.value());
+        httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        httpResponse.setContentLength(prefix.length + content.length - 1);
+        ServletOutputStream out = httpResponse.getOutputStream();
+        out.write(prefix);
+        // Skip the content object's opening brace; its fields continue the prefix object.
+        out.write(content, 1, content.length - 1);
+        out.flush();
+    }
+
+    @PostMapping("/fortunes:range")
+    @ResponseStatus(HttpStatus.OK)
+    public DailyFortuneRangeResponse generateDailyFortuneRange(
+            @Valid @RequestBody GenerateDailyFortuneRangeRequest request,
+            @AuthenticationPrincipal Jwt jwt,
             HttpServletRequest httpRequest
     ) {
-        var result = engineService.generateDailyFortune(jwt.getSubject(), request);
-        return Map.of(
-                "requestId", requestId(httpRequest),
-                "userId", result.userId(),
-                "date", result.date().toString(),
-                "score", result.score(),
-                "summary", result.summary(),
-                "category", result.category(),
-                "categoryDetails", result.categoryDetails(),
-                "actions", result.actions()
+        var result = engineService.generateDailyFortuneRange(jwt.getSubject(), request);
+        List<DailyFortuneContent> days = new ArrayList<>(result.days().size());
+        for (var day : result.days()) {
+            days.add(DailyFortuneContent.of(day));
+        }
+        return new DailyFortuneRangeResponse(
+                requestId(httpRequest),
+                result.chartId(),
+                result.from().toString(),
+                result.to().toString(),
+                days
         );
     }
 
+    // Read-only views of stored content for app resume polling. The body is the stored content_json and the
+    // strong ETag is its SHA-256, so a matching If-None-Match is answered with 304 and no body.
+    @GetMapping("/fortunes/daily/{chartId}/{date}")
+    public ResponseEntity<byte[]> getDailyFortune(
+            @PathVariable String chartId,
+            @PathVariable String date,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        byte[] content = engineService.findStoredDailyFortune(jwt.getSubject(), chartId, parseDate(date));
+        return conditionalJson(content, ifNoneMatch);
+    }
+
+    @GetMapping("/reports/{chartId}/{type}")
+    public ResponseEntity<byte[]> getReport(
+            @PathVariable String chartId,
+            @PathVariable String type,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        byte[] content = engineService.findStoredReport(jwt.getSubject(), chartId, type);
+        return conditionalJson(content, ifNoneMatch);
+    }
+
     @GetMapping("/health")
     public Map<String, Object> health(HttpServletRequest httpRequest) {
         boolean insecureJwt = Boolean.parseBoolean(env.getProperty("ENGINE_INSECURE_JWT", "false"));
@@ -171,6 +386,73 @@ public class EngineController {
         );
     }
 
+    // Parsed here so a malformed path date is not reported by the DateTimeParseException handler as BIRTH_INFO_INVALID.
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new ApiClientException("DATE_INVALID", HttpStatus.BAD_REQUEST, "date must be yyyy-MM-dd");
+        }
+    }
+
+    private static ResponseEntity<byte[]> conditionalJson(byte[] content, String ifNoneMatch) {
+        String etag = ContentETag.of(content);
+        // no-cache: clients may store the body but must revalidate, which is what the ETag is for.
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ContentETag.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(content);
+    }
+
+    private static Map<String, Object> jobBody(String requestId, AiInterpretationJobService.JobSnapshot job) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("requestId", requestId);
+        body.put("jobId", job.jobId());
+        body.put("chartId", job.chartId());
+        body.put("status", job.status().name().toLowerCase());
+        if (job.result() != null) {
+            body.put("reportType", job.result().reportType());
+            body.put("content", job.result().content());
+        }
+        if (job.errorCode() != null) {
+            body.put("error", Map.of("code", job.errorCode(), "message", job.errorMessage()));
+        }
+        return body;
+    }
+
+    private static Map<String, Object> sectionEvent(String name, Object value) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("name", name);
+        event.put("value", value);
+        return event;
+    }
+
+    private static void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void completeWithErrorEvent(SseEmitter emitter, Map<String, Object> body) {
+        try {
+            sendEvent(emitter, "error", body);
+            emitter.complete();
+        } catch (UncheckedIOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static String jsonEscape(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value == null ? "" : value));
+    }
+
     private String requestId(HttpServletRequest request) {
         Object value = request.getAttribute("requestId");
         return value == null ? "" : value.toString();
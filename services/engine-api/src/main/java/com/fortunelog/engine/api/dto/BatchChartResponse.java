@@ -0,0 +1,14 @@
+package com.fortunelog.engine.api.dto;
+
+import com.fortunelog.engine.domain.model.BatchChartResult;
+
+import java.util.List;
+
+public record BatchChartResponse(
+        String requestId,
+        String engineVersion,
+        int succeeded,
+        int failed,
+        List<BatchChartResult.Item> items
+) {
+}
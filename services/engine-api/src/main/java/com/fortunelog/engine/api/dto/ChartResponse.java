@@ -0,0 +1,12 @@
+package com.fortunelog.engine.api.dto;
+
+import java.util.Map;
+
+public record ChartResponse(
+        String requestId,
+        String chartId,
+        String engineVersion,
+        Map<String, String> chart,
+        Map<String, Integer> fiveElements
+) {
+}
@@ -0,0 +1,14 @@
+package com.fortunelog.engine.api.dto;
+
+import com.fortunelog.engine.domain.model.DailyFortuneContent;
+
+import java.util.List;
+
+public record DailyFortuneRangeResponse(
+        String requestId,
+        String chartId,
+        String from,
+        String to,
+        List<DailyFortuneContent> days
+) {
+}
@@ -56,6 +56,7 @@ public class AccountDeletionWorker {
             int birthRows = persistenceService.deleteUserBirthProfiles(item.userId());
             int orderRows = persistenceService.deleteUserOrders(item.userId());
             int subscriptionRows = persistenceService.deleteUserSubscriptions(item.userId());
+            persistenceService.deleteUserAiInterpretationJobs(item.userId());
             persistenceService.anonymizeUserProfile(item.userId());
             persistenceService.markAccountDeletionRequestCompleted(item.requestId());
 
@@ -0,0 +1,326 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.application.dto.GenerateAiInterpretationRequest;
+import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.domain.model.ReportResult;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs reports:interpret as a background job so the HTTP request returns immediately (202 + job id) and clients
+// poll for the result. The accepting instance runs the job and keeps it in memory (long polls wait on it) until
+// `retention` after it finishes. Its status is also written to ai_interpretation_jobs, so a poll that lands on
+// another instance or follows a restart is answered from that row and, once succeeded, from the stored report.
+@Service
+public class AiInterpretationJobService {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    public record JobSnapshot(
+            String jobId,
+            String chartId,
+            Status status,
+            ReportResult result,
+            String errorCode,
+            String errorMessage
+    ) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(AiInterpretationJobService.class);
+
+    private final EngineService engineService;
+    private final SupabasePersistenceService persistenceService;
+    private final int maxInFlightPerUser;
+    private final Duration retention;
+    // A persisted job still queued/running after this long was lost with its instance.
+    private final Duration staleAfter;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // Queued + running jobs per user. Only changed inside compute/computeIfPresent so a counter that drops to zero
+    // is removed atomically with respect to a concurrent submit for the same user.
+    private final Map<String, Integer> inFlightByUser = new ConcurrentHashMap<>();
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+    private final Counter queueFullCounter;
+    private final Counter userLimitCounter;
+    private final AtomicLong lastPersistedPruneNanos = new AtomicLong(System.nanoTime());
+
+    public AiInterpretationJobService(
+            EngineService engineService,
+            SupabasePersistenceService persistenceService,
+            MeterRegistry meterRegistry,
+            @Value("${app.ai-interpretation-jobs.workers:4}") int workers,
+            @Value("${app.ai-interpretation-jobs.queue-capacity:100}") int queueCapacity,
+            @Value("${app.ai-interpretation-jobs.max-in-flight-per-user:2}") int maxInFlightPerUser,
+            @Value("${app.ai-interpretation-jobs.retention-minutes:30}") long retentionMinutes,
+            @Value("${app.ai-interpretation-jobs.stale-after-minutes:10}") long staleAfterMinutes
+    ) {
+        this.engineService = engineService;
+        this.persistenceService = persistenceService;
+        this.maxInFlightPerUser = Math.max(1, maxInFlightPerUser);
+        this.retention = Duration.ofMinutes(Math.max(1, retentionMinutes));
+        this.staleAfter = Duration.ofMinutes(Math.max(1, staleAfterMinutes));
+        int poolSize = Math.max(1, workers);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-interpretation-job-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.queueWaitTimer = Timer.builder("fortunelog.ai_interpretation.jobs.queue_wait")
+                .description("Time a job waited for a worker")
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("fortunelog.ai_interpretation.jobs.execution")
+                .description("Time a worker spent on a job")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("fortunelog.ai_interpretation.jobs.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.userLimitCounter = Counter.builder("fortunelog.ai_interpretation.jobs.rejected")
+                .tag("reason", "user_limit")
+                .register(meterRegistry);
+        Gauge.builder("fortunelog.ai_interpretation.jobs.queue_depth", executor, e -> e.getQueue().size())
+                .description("Jobs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    public JobSnapshot submit(String userId, GenerateAiInterpretationRequest request) {
+        pruneFinishedJobs();
+        if (!tryAcquireUserSlot(userId)) {
+            userLimitCounter.increment();
+            throw new ApiClientException(
+                    "AI_JOB_LIMIT_EXCEEDED",
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    "진행 중인 AI 해석 요청이 너무 많습니다. 완료 후 다시 시도해주세요."
+            );
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), userId, request);
+        try {
+            persistenceService.insertAiInterpretationJob(job.id, userId, request.chartId());
+        } catch (RuntimeException e) {
+            releaseUserSlot(userId);
+            throw e;
+        }
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            releaseUserSlot(userId);
+            job.errorCode = "AI_JOB_QUEUE_FULL";
+            job.errorMessage = "queue full";
+            job.status = Status.FAILED;
+            job.finishedAt = Instant.now();
+            persistStatus(job);
+            queueFullCounter.increment();
+            throw new ApiClientException(
+                    "AI_JOB_QUEUE_FULL",
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    "AI 해석 요청이 많습니다. 잠시 후 다시 시도해주세요."
+            );
+        }
+        return job.snapshot();
+    }
+
+    // Long poll: completes with the job's state once it finishes or `wait` elapses, whichever comes first.
+    // Jobs held by another instance are answered right away from the persisted row; clients poll again.
+    public CompletableFuture<JobSnapshot> await(String userId, String jobId, Duration wait) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return CompletableFuture.completedFuture(persistedJob(userId, jobId));
+        }
+        if (!job.userId.equals(userId)) {
+            throw jobNotFound();
+        }
+        return job.completion.copy()
+                .completeOnTimeout(null, wait.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> job.snapshot());
+    }
+
+    int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        long startedAt = System.nanoTime();
+        queueWaitTimer.record(Duration.between(job.createdAt, Instant.now()));
+        job.status = Status.RUNNING;
+        persistStatus(job);
+        try {
+            job.result = engineService.generateAiInterpretation(job.userId, job.request);
+            job.status = Status.SUCCEEDED;
+        } catch (ApiClientException e) {
+            job.errorCode = e.code();
+            job.errorMessage = e.getMessage();
+            job.status = Status.FAILED;
+        } catch (RuntimeException e) {
+            log.error("ai interpretation job failed: jobId={} chartId={}", job.id, job.request.chartId(), e);
+            job.errorCode = "INTERNAL_ERROR";
+            job.errorMessage = "unexpected server error";
+            job.status = Status.FAILED;
+        } finally {
+            executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            job.finishedAt = Instant.now();
+            persistStatus(job);
+            releaseUserSlot(job.userId);
+            job.completion.complete(null);
+        }
+    }
+
+    private boolean tryAcquireUserSlot(String userId) {
+        boolean[] acquired = new boolean[1];
+        inFlightByUser.compute(userId, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxInFlightPerUser) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void releaseUserSlot(String userId) {
+        inFlightByUser.computeIfPresent(userId, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    // Best effort: the in-memory job stays authoritative on this instance.
+    private void persistStatus(Job job) {
+        try {
+            persistenceService.updateAiInterpretationJob(
+                    job.id,
+                    job.status.name().toLowerCase(),
+                    job.errorCode,
+                    job.errorMessage,
+                    job.finishedAt
+            );
+        } catch (RuntimeException e) {
+            log.warn("ai interpretation job status not persisted: jobId={} status={}", job.id, job.status, e);
+        }
+    }
+
+    private JobSnapshot persistedJob(String userId, String jobId) {
+        if (!isUuid(jobId)) {
+            throw jobNotFound();
+        }
+        var row = persistenceService.findAiInterpretationJob(userId, jobId);
+        if (row == null) {
+            throw jobNotFound();
+        }
+        Status status = Status.valueOf(row.status().toUpperCase());
+        if (status == Status.SUCCEEDED) {
+            Map<String, Object> content = persistenceService.findLatestAiInterpretation(userId, row.chartId());
+            if (content == null) {
+                return new JobSnapshot(jobId, row.chartId(), Status.FAILED, null, "REPORT_NOT_FOUND", "생성된 리포트가 없습니다.");
+            }
+            return new JobSnapshot(
+                    jobId,
+                    row.chartId(),
+                    Status.SUCCEEDED,
+                    new ReportResult(row.chartId(), "ai_interpretation", content),
+                    null,
+                    null
+            );
+        }
+        if (status != Status.FAILED && row.createdAt().isBefore(Instant.now().minus(staleAfter))) {
+            return new JobSnapshot(jobId, row.chartId(), Status.FAILED, null, "AI_JOB_LOST", "AI 해석 작업이 중단되었습니다. 다시 요청해주세요.");
+        }
+        return new JobSnapshot(jobId, row.chartId(), status, null, row.errorCode(), row.errorMessage());
+    }
+
+    private static boolean isUuid(String value) {
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static ApiClientException jobNotFound() {
+        return new ApiClientException(
+                "AI_JOB_NOT_FOUND",
+                HttpStatus.NOT_FOUND,
+                "AI 해석 작업을 찾을 수 없습니다."
+        );
+    }
+
+    private void pruneFinishedJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+
+        // Persisted rows: at most once per retention period per instance, off the request thread. A job created
+        // before now - staleAfter - retention finished (or was lost) at least `retention` ago.
+        long now = System.nanoTime();
+        long last = lastPersistedPruneNanos.get();
+        if (now - last >= retention.toNanos() && lastPersistedPruneNanos.compareAndSet(last, now)) {
+            Instant persistedCutoff = cutoff.minus(staleAfter);
+            CompletableFuture.runAsync(() -> {
+                try {
+                    persistenceService.deleteAiInterpretationJobsCreatedBefore(persistedCutoff);
+                } catch (RuntimeException e) {
+                    log.warn("expired ai interpretation jobs not deleted", e);
+                }
+            });
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final String userId;
+        private final GenerateAiInterpretationRequest request;
+        private final Instant createdAt = Instant.now();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private volatile Status status = Status.QUEUED;
+        private volatile ReportResult result;
+        private volatile String errorCode;
+        private volatile String errorMessage;
+        private volatile Instant finishedAt;
+
+        Job(String id, String userId, GenerateAiInterpretationRequest request) {
+            this.id = id;
+            this.userId = userId;
+            this.request = request;
+        }
+
+        JobSnapshot snapshot() {
+            return new JobSnapshot(id, request.chartId(), status, result, errorCode, errorMessage);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.domain.FiveElement;
+import com.fortunelog.engine.domain.SajuChartCode;
+
+import java.util.List;
+
+// Daily fortune categories with their text pools, built once at class load.
+// Summary templates use {D}/{W} for the dominant/weak element and {P} for the day pillar; every
+// dominant x weak combination is pre-rendered, leaving only the day pillar to splice in per request.
+enum DailyCategory {
+
+    MONEY(
+            "money",
+            0x701,
+            new String[]{
+                    "{D} 기운이 자금 흐름을 움직입니다. {W} 기운 보완이 지출 안정에 도움이 됩니다.",
+                    "{D} 기운이 수입/지출 판단을 빠르게 만듭니다. 무리한 지출만 피하면 안정적입니다.",
+                    "{D} 기운이 재무 결정의 속도를 올립니다. 작은 절약 습관이 특히 효과적입니다."
+            },
+            new String[]{
+                    "고정 지출을 정리하면 체감 여유가 생깁니다.",
+                    "소액 절약이 누적 성과로 이어집니다.",
+                    "수입/지출을 한 번에 보는 습관이 유리합니다.",
+                    "가격 비교 후 하루 뒤 결제하면 실수가 줄어듭니다.",
+                    "예산을 먼저 정하면 소비 만족도가 높아집니다."
+            },
+            new String[]{
+                    "계획 없는 소액 결제 반복",
+                    "즉흥적인 비교·추가 구매",
+                    "구독/자동결제 점검 누락",
+                    "할인 문구에 급히 반응하는 소비",
+                    "단기 기분전환성 지출 누적"
+            },
+            new String[]{
+                    "오늘 지출 상한 1개만 먼저 정하기",
+                    "자동결제 목록 1개 점검하기",
+                    "불필요한 소비 1건만 미루기",
+                    "결제 전 장바구니에서 1개 빼보기",
+                    "현금흐름 메모 3줄 작성하기"
+            }
+    ),
+    LOVE(
+            "love",
+            0x702,
+            new String[]{
+                    "{D} 기운이 대화의 온도를 높입니다. 감정 표현은 부드럽게 조절하는 편이 좋습니다.",
+                    "{D} 기운으로 관계 반응이 빨라집니다. 말의 톤을 한 단계 낮추면 더 좋습니다.",
+                    "{D} 기운이 관계 주도권을 줍니다. 상대 속도를 존중하면 흐름이 안정됩니다."
+            },
+            new String[]{
+                    "짧고 따뜻한 표현이 관계를 안정시킵니다.",
+                    "상대의 입장을 먼저 요약하면 오해가 줄어듭니다.",
+                    "연락 리듬을 일정하게 가져가면 신뢰가 높아집니다.",
+                    "즉답보다 맥락 설명이 관계를 부드럽게 만듭니다.",
+                    "기대치를 짧게 공유하면 갈등이 줄어듭니다."
+            },
+            new String[]{
+                    "단정적인 표현으로 말끝이 강해지는 것",
+                    "감정 누적 후 한 번에 폭발하는 반응",
+                    "상대 확인 없이 결론을 먼저 내리는 습관",
+                    "대화 타이밍을 놓친 뒤 장기 침묵",
+                    "상대의 표현을 빠르게 오해하는 반응"
+            },
+            new String[]{
+                    "요청은 한 문장으로 부드럽게 전달하기",
+                    "중요 대화 전 10초 멈추고 톤 점검하기",
+                    "감사/칭찬 메시지 1회 먼저 보내기",
+                    "오해 가능 문장을 질문형으로 바꾸기",
+                    "오늘 연락 리듬(시간대) 하나 정하기"
+            }
+    ),
+    WORK(
+            "work",
+            0x703,
+            new String[]{
+                    "{D} 기운으로 실행력이 살아납니다. 일주({P}) 흐름상 우선순위 정리가 성과를 키웁니다.",
+                    "{D} 기운이 업무 추진력을 올립니다. 일주({P}) 기준으론 멀티태스킹보다 단일 집중이 유리합니다.",
+                    "{D} 기운이 실행 속도를 밀어줍니다. 핵심 1개 과업부터 처리하면 효율이 좋습니다."
+            },
+            new String[]{
+                    "중요도 높은 1개 과업에 집중하면 성과가 빠릅니다.",
+                    "오전 집중 블록이 생산성을 끌어올립니다.",
+                    "핵심 결정은 근거를 짧게 정리해 공유하면 좋습니다.",
+                    "반복 업무를 먼저 끝내면 오후 효율이 좋아집니다.",
+                    "완벽함보다 완료 기준을 정하면 속도가 붙습니다."
+            },
+            new String[]{
+                    "동시다발 작업으로 집중 분산",
+                    "마감 직전 급한 의사결정",
+                    "우선순위 없이 할 일을 늘리는 것",
+                    "회의가 길어져 실행 시간이 줄어드는 것",
+                    "검토 없이 바로 배포/제출하는 습관"
+            },
+            new String[]{
+                    "오늘 Top 3 중 1순위부터 90분 집중하기",
+                    "회의 전 결정 항목 3개 미리 적기",
+                    "오후에는 정리·마감 작업으로 전환하기",
+                    "메신저 확인 시간을 2회로 제한하기",
+                    "완료 기준을 먼저 정의하고 시작하기"
+            }
+    ),
+    HEALTH(
+            "health",
+            0x704,
+            new String[]{
+                    "{D} 기운이 활력을 주지만, {W} 기운이 약하면 회복 루틴이 더 중요해집니다.",
+                    "{D} 기운으로 체력 반응이 빠릅니다. {W} 기운 보완을 위해 수면·수분 관리가 핵심입니다.",
+                    "{D} 기운이 활동성을 높입니다. 과로를 막는 휴식 타이밍을 미리 잡아두세요."
+            },
+            new String[]{
+                    "가벼운 걷기와 스트레칭이 컨디션을 살립니다.",
+                    "수분 섭취를 먼저 챙기면 피로가 완만해집니다.",
+                    "식사 리듬을 일정하게 유지하면 집중력이 좋아집니다.",
+                    "잠깐의 햇빛 노출이 생체 리듬을 돕습니다.",
+                    "짧은 호흡 정리가 긴장 완화에 유리합니다."
+            },
+            new String[]{
+                    "수면 시간 불규칙",
+                    "카페인·당류 과다 섭취",
+                    "오랜 시간 같은 자세 유지",
+                    "식사 간격이 지나치게 길어지는 것",
+                    "회복 시간 없이 연속 일정 소화"
+            },
+            new String[]{
+                    "물 2잔 먼저 마시기",
+                    "저녁 20분 가볍게 걷기",
+                    "잠들기 1시간 전 화면 사용 줄이기",
+                    "오전/오후 1회씩 목·어깨 스트레칭",
+                    "카페인 컵 수를 하루 1잔 줄이기"
+            }
+    );
+
+    // How many entries of each pool go into a DailyCategoryDetail.
+    static final int PICK_COUNT = 2;
+
+    private static final String[] DAILY_SUMMARY_LEADS = {
+            "오늘은 흐름을 빠르게 타는 날입니다.",
+            "오늘은 균형을 잡으면 성과가 커지는 날입니다.",
+            "오늘은 선택과 집중이 잘 맞는 날입니다.",
+            "오늘은 리듬을 정리할수록 운이 붙는 날입니다."
+    };
+    private static final String DAILY_SUMMARY_TEMPLATE = " {D} 기운이 중심이 되고, 일주({P}) 흐름상 {W} 기운 보완이 포인트입니다.";
+    private static final Template[][] DAILY_SUMMARIES = renderAll(prefixed(DAILY_SUMMARY_LEADS, DAILY_SUMMARY_TEMPLATE));
+
+    private final String key;
+    private final int summarySalt;
+    // [variant][dominant * ELEMENT_COUNT + weak]
+    private final Template[][] summaries;
+    // [start] = PICK_COUNT consecutive pool entries (wrapping) starting at start
+    private final List<String>[] goodPicks;
+    private final List<String>[] cautionPicks;
+    private final List<String>[] actionPicks;
+
+    DailyCategory(String key, int summarySalt, String[] summaryTemplates, String[] good, String[] cautions, String[] actions) {
+        this.key = key;
+        this.summarySalt = summarySalt;
+        this.summaries = renderAll(summaryTemplates);
+        this.goodPicks = windows(good);
+        this.cautionPicks = windows(cautions);
+        this.actionPicks = windows(actions);
+    }
+
+    String key() {
+        return key;
+    }
+
+    String summary(int seed, FiveElement dominant, FiveElement weak, String dayPillar) {
+        return pick(summaries, seed ^ summarySalt)[elementPair(dominant, weak)].render(dayPillar);
+    }
+
+    List<String> good(int seed) {
+        return pick(goodPicks, seed);
+    }
+
+    List<String> cautions(int seed) {
+        return pick(cautionPicks, seed);
+    }
+
+    List<String> actions(int seed) {
+        return pick(actionPicks, seed);
+    }
+
+    static String dailySummary(int seed, FiveElement dominant, FiveElement weak, String dayPillar) {
+        return pick(DAILY_SUMMARIES, seed)[elementPair(dominant, weak)].render(dayPillar);
+    }
+
+    private static int elementPair(FiveElement dominant, FiveElement weak) {
+        return dominant.ordinal() * SajuChartCode.ELEMENT_COUNT + weak.ordinal();
+    }
+
+    private static <T> T pick(T[] source, int seed) {
+        return source[Math.floorMod(seed, source.length)];
+    }
+
+    private static String[] prefixed(String[] leads, String template) {
+        String[] out = new String[leads.length];
+        for (int i = 0; i < leads.length; i++) {
+            out[i] = leads[i] + template;
+        }
+        return out;
+    }
+
+    private static Template[][] renderAll(String[] templates) {
+        int elements = SajuChartCode.ELEMENT_COUNT;
+        Template[][] rendered = new Template[templates.length][elements * elements];
+        for (int variant = 0; variant < templates.length; variant++) {
+            for (int dominant = 0; dominant < elements; dominant++) {
+                for (int weak = 0; weak < elements; weak++) {
+                    String text = templates[variant]
+                            .replace("{D}", FiveElement.of(dominant).ko())
+                            .replace("{W}", FiveElement.of(weak).ko());
+                    rendered[variant][dominant * elements + weak] = Template.of(text);
+                }
+            }
+        }
+        return rendered;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] windows(String[] pool) {
+        int limit = Math.min(PICK_COUNT, pool.length);
+        List<String>[] out = new List[pool.length];
+        for (int start = 0; start < pool.length; start++) {
+            String[] window = new String[limit];
+            for (int i = 0; i < limit; i++) {
+                window[i] = pool[(start + i) % pool.length];
+            }
+            out[start] = List.of(window);
+        }
+        return out;
+    }
+
+    // Pre-rendered text split around the day pillar placeholder; tail is null when there is none.
+    private record Template(String head, String tail) {
+
+        static Template of(String text) {
+            int at = text.indexOf("{P}");
+            return at < 0 ? new Template(text, null) : new Template(text.substring(0, at), text.substring(at + 3));
+        }
+
+        String render(String dayPillar) {
+            return tail == null ? head : head + dayPillar + tail;
+        }
+    }
+}
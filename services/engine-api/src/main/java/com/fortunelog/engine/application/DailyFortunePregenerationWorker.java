@@ -0,0 +1,200 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.domain.TimeZoneNormalizer;
+import com.fortunelog.engine.domain.model.DailyFortuneResult;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Generates tomorrow's daily fortunes for every active chart overnight so the morning traffic spike is served
+// from stored reports (see app.daily-fortune-pregeneration.enabled in EngineService).
+// Charts are read in keyset pages; up to `concurrency` pages are generated and upserted at once.
+// Every instance fires the schedule, but only the one that claims the scheduled_job_runs row for the target date
+// runs it. If that instance dies mid-run, the remaining charts are generated on demand.
+@Component
+public class DailyFortunePregenerationWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyFortunePregenerationWorker.class);
+    private static final String JOB_NAME = "daily_fortune_pregeneration";
+    private static final String INSTANCE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final SupabasePersistenceService persistenceService;
+    private final EngineService engineService;
+    private final boolean enabled;
+    private final int pageSize;
+    private final int concurrency;
+    private final Duration maxDuration;
+    private final Counter generatedCounter;
+    private final Counter failedCounter;
+    private final Counter pageCounter;
+    private final Timer runTimer;
+
+    public DailyFortunePregenerationWorker(
+            SupabasePersistenceService persistenceService,
+            EngineService engineService,
+            MeterRegistry meterRegistry,
+            @Value("${app.daily-fortune-pregeneration.enabled:false}") boolean enabled,
+            @Value("${app.daily-fortune-pregeneration.page-size:500}") int pageSize,
+            @Value("${app.daily-fortune-pregeneration.concurrency:4}") int concurrency,
+            @Value("${app.daily-fortune-pregeneration.max-duration-minutes:180}") long maxDurationMinutes
+    ) {
+        this.persistenceService = persistenceService;
+        this.engineService = engineService;
+        this.enabled = enabled;
+        this.pageSize = Math.max(1, Math.min(pageSize, 1000));
+        this.concurrency = Math.max(1, Math.min(concurrency, 32));
+        this.maxDuration = Duration.ofMinutes(Math.max(1, maxDurationMinutes));
+        this.generatedCounter = Counter.builder("fortunelog.daily_fortune.pregeneration.generated")
+                .description("Daily fortunes pre-generated and stored")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("fortunelog.daily_fortune.pregeneration.failed")
+                .description("Charts whose daily fortune could not be pre-generated or stored")
+                .register(meterRegistry);
+        this.pageCounter = Counter.builder("fortunelog.daily_fortune.pregeneration.pages")
+                .description("Chart pages processed")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("fortunelog.daily_fortune.pregeneration.run")
+                .description("Duration of a pre-generation run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.daily-fortune-pregeneration.cron:0 0 1 * * *}", zone = "Asia/Seoul")
+    public void pregenerateTomorrow() {
+        if (!enabled) {
+            return;
+        }
+        pregenerate(LocalDate.now(TimeZoneNormalizer.KST).plusDays(1));
+    }
+
+    // Claims the run for targetDate, then runs it; returns -1 when another instance has it (or the claim failed).
+    int pregenerate(LocalDate targetDate) {
+        boolean claimed;
+        try {
+            claimed = persistenceService.claimScheduledJobRun(JOB_NAME, targetDate.toString(), INSTANCE_ID);
+        } catch (RuntimeException e) {
+            log.error("daily fortune pre-generation skipped: could not claim run for targetDate={}", targetDate, e);
+            return -1;
+        }
+        if (!claimed) {
+            log.info("daily fortune pre-generation for targetDate={} already claimed by another instance", targetDate);
+            return -1;
+        }
+        return run(targetDate);
+    }
+
+    // Returns the number of stored reports. Stops fetching new pages once maxDuration has elapsed;
+    // charts not reached are generated on demand the next morning.
+    public int run(LocalDate targetDate) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+        AtomicInteger stored = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int pages = 0;
+        boolean timedOut = false;
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            String afterChartId = null;
+            while (true) {
+                if (System.nanoTime() - deadline >= 0) {
+                    timedOut = true;
+                    break;
+                }
+                List<SupabasePersistenceService.ActiveChart> page;
+                try {
+                    page = persistenceService.findActiveChartsPage(EngineVersion.CURRENT, afterChartId, pageSize);
+                } catch (RuntimeException e) {
+                    log.error("daily fortune pre-generation aborted: failed to read charts after={}", afterChartId, e);
+                    break;
+                }
+                if (page.isEmpty()) {
+                    break;
+                }
+                pages++;
+                afterChartId = page.get(page.size() - 1).chartId();
+
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        processPage(targetDate, page, stored, failed);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        runTimer.record(Duration.ofNanos(elapsedNanos));
+        log.info(
+                "daily fortune pre-generation finished: targetDate={} pages={} stored={} failed={} timedOut={} elapsedMs={}",
+                targetDate,
+                pages,
+                stored.get(),
+                failed.get(),
+                timedOut,
+                elapsedNanos / 1_000_000
+        );
+        return stored.get();
+    }
+
+    private void processPage(
+            LocalDate targetDate,
+            List<SupabasePersistenceService.ActiveChart> page,
+            AtomicInteger stored,
+            AtomicInteger failed
+    ) {
+        List<SupabasePersistenceService.DailyFortuneRow> rows = new ArrayList<>(page.size());
+        for (SupabasePersistenceService.ActiveChart chart : page) {
+            try {
+                DailyFortuneResult result = engineService.composeDailyFortune(
+                        chart.userId(),
+                        chart.chartId(),
+                        chart.snapshot(),
+                        targetDate
+                );
+                rows.add(new SupabasePersistenceService.DailyFortuneRow(
+                        chart.userId(),
+                        chart.chartId(),
+                        targetDate,
+                        engineService.serializeDailyFortune(result).contentJson()
+                ));
+            } catch (RuntimeException e) {
+                log.warn("daily fortune pre-generation skipped chart: chartId={}", chart.chartId(), e);
+                failed.incrementAndGet();
+                failedCounter.increment();
+            }
+        }
+
+        try {
+            persistenceService.upsertDailyFortuneReports(rows);
+            stored.addAndGet(rows.size());
+            generatedCounter.increment(rows.size());
+        } catch (RuntimeException e) {
+            log.error("daily fortune pre-generation page upsert failed: rows={}", rows.size(), e);
+            failed.addAndGet(rows.size());
+            failedCounter.increment(rows.size());
+        }
+        pageCounter.increment();
+    }
+}
@@ -1,78 +1,292 @@
 package com.fortunelog.engine.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fortunelog.engine.application.dto.BatchCalculateChartRequest;
 import com.fortunelog.engine.application.dto.CalculateChartRequest;
 import com.fortunelog.engine.application.dto.GenerateAiInterpretationRequest;
+import com.fortunelog.engine.application.dto.GenerateDailyFortuneRangeRequest;
 import com.fortunelog.engine.application.dto.GenerateDailyFortuneRequest;
 import com.fortunelog.engine.application.dto.GenerateReportRequest;
 import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.common.BoundedCache;
+import com.fortunelog.engine.common.SingleFlight;
+import com.fortunelog.engine.domain.FiveElement;
+import com.fortunelog.engine.domain.FiveElementCounts;
 import com.fortunelog.engine.domain.LunarDateConverter;
 import com.fortunelog.engine.domain.SajuCalculator;
+import com.fortunelog.engine.domain.SajuChartCode;
+import com.fortunelog.engine.domain.TimeZoneNormalizer;
+import com.fortunelog.engine.domain.model.BatchChartResult;
 import com.fortunelog.engine.domain.model.ChartResult;
 import com.fortunelog.engine.domain.model.DailyCategoryDetail;
+import com.fortunelog.engine.domain.model.DailyFortuneContent;
+import com.fortunelog.engine.domain.model.DailyFortuneRangeResult;
 import com.fortunelog.engine.domain.model.DailyFortuneResult;
 import com.fortunelog.engine.domain.model.ReportResult;
 import com.fortunelog.engine.infra.llm.OpenAiAnalysisClient;
 import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
 
 @Service
 public class EngineService {
     private static final Logger log = LoggerFactory.getLogger(EngineService.class);
 
+    public static final int MAX_FORTUNE_RANGE_DAYS = 31;
+
+    // Score offset per category given the chart's dominant element: [FiveElement][DailyCategory].
+    private static final int[][] CATEGORY_OFFSETS = {
+            //          money love work health
+            /* wood  */ {0, 1, 3, 2},
+            /* fire  */ {2, 3, 1, -1},
+            /* earth */ {3, 0, 1, 2},
+            /* metal */ {2, 0, 2, 1},
+            /* water */ {1, 2, 3, 0}
+    };
+
     private static final DateTimeFormatter BIRTH_TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm");
 
     private final SajuCalculator sajuCalculator = new SajuCalculator();
     private final LunarDateConverter lunarDateConverter = new LunarDateConverter();
+    private final TimeZoneNormalizer timeZoneNormalizer = new TimeZoneNormalizer();
     private final SupabasePersistenceService persistenceService;
     private final OpenAiAnalysisClient openAiAnalysisClient;
+    // Built from the application's mapper so stored daily fortunes match the JSON of the other endpoints;
+    // the writer resolves its serializers once.
+    private final ObjectWriter dailyFortuneContentWriter;
+    // Charts are a pure function of (KST birth minute, unknownBirthTime, engine version).
+    private final BoundedCache<ChartCacheKey, Long> chartCache;
+    // When enabled, a daily fortune is a pure function of (chart, date, engine version), so results already
+    // generated on this instance are served from dailyFortuneCache without reading or writing Supabase.
+    private final boolean deterministicDailyFortune;
+    private final BoundedCache<DailyFortuneKey, DailyFortuneResult> dailyFortuneCache;
+    private final boolean serveStoredDailyFortunes;
+    private final SingleFlight<DailyFortuneKey, DailyFortunePayload> dailyFortuneFlights;
+    private final SingleFlight<AiInterpretationKey, ReportResult> aiInterpretationFlights;
+    // LLM interpretations keyed by prompt signature; misses fall back to the stored ai_interpretation report.
+    private final BoundedCache<AiInterpretationCacheKey, Map<String, Object>> aiInterpretationCache;
 
     public EngineService(
             SupabasePersistenceService persistenceService,
             OpenAiAnalysisClient openAiAnalysisClient
+    ) {
+        this(
+                persistenceService,
+                openAiAnalysisClient,
+                new SimpleMeterRegistry(),
+                new ObjectMapper(),
+                10_000,
+                3600,
+                false,
+                10_000,
+                false,
+                1_000
+        );
+    }
+
+    @Autowired
+    public EngineService(
+            SupabasePersistenceService persistenceService,
+            OpenAiAnalysisClient openAiAnalysisClient,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${app.engine.chart-cache-size:10000}") int chartCacheSize,
+            @Value("${app.engine.cache-ttl-seconds:3600}") long cacheTtlSeconds,
+            @Value("${app.engine.daily-fortune.deterministic:false}") boolean deterministicDailyFortune,
+            @Value("${app.engine.daily-fortune.cache-size:10000}") int dailyFortuneCacheSize,
+            @Value("${app.daily-fortune-pregeneration.enabled:false}") boolean serveStoredDailyFortunes,
+            @Value("${app.engine.ai-interpretation-cache-size:1000}") int aiInterpretationCacheSize
     ) {
         this.persistenceService = persistenceService;
         this.openAiAnalysisClient = openAiAnalysisClient;
+        this.dailyFortuneContentWriter = objectMapper.writerFor(DailyFortuneContent.class);
+        this.chartCache = new BoundedCache<>(chartCacheSize, Duration.ofSeconds(cacheTtlSeconds));
+        this.deterministicDailyFortune = deterministicDailyFortune;
+        this.dailyFortuneCache = new BoundedCache<>(
+                deterministicDailyFortune ? dailyFortuneCacheSize : 0,
+                Duration.ofSeconds(cacheTtlSeconds)
+        );
+        this.serveStoredDailyFortunes = serveStoredDailyFortunes;
+        this.dailyFortuneFlights = new SingleFlight<>(meterRegistry, "daily_fortune");
+        this.aiInterpretationFlights = new SingleFlight<>(meterRegistry, "ai_interpretation");
+        this.aiInterpretationCache = new BoundedCache<>(aiInterpretationCacheSize, Duration.ofSeconds(cacheTtlSeconds));
     }
 
     public ChartResult calculateChart(String userId, CalculateChartRequest request) {
         ensureUserIsActive(userId);
-        LocalDate birthDate = resolveSolarBirthDate(request);
-        LocalTime birthTime = request.unknownBirthTime()
-                ? LocalTime.NOON
-                : LocalTime.parse(request.birthTime(), BIRTH_TIME_FORMATTER);
-
-        // Treat input date/time as local time in the provided timezone, then compare solar term boundaries in KST.
-        ZoneId inputZone = ZoneId.of(request.birthTimezone());
-        ZonedDateTime inputZdt = LocalDateTime.of(birthDate, birthTime).atZone(inputZone);
-        ZonedDateTime kstZdt = inputZdt.withZoneSameInstant(ZoneId.of("Asia/Seoul"));
-
-        SajuCalculator.SajuChart chart = sajuCalculator.calculate(
-                kstZdt.toLocalDateTime(),
-                request.unknownBirthTime()
-        );
+        long chartCode = calculateCached(toKstBirthDateTime(request), request.unknownBirthTime());
+        Map<String, String> chart = SajuChartCode.toChartMap(chartCode);
+        Map<String, Integer> fiveElements = SajuChartCode.toFiveElementsMap(chartCode);
 
         String chartId = persistenceService.insertSajuChart(
                 userId,
                 request.birthProfileId(),
-                chart.chart(),
-                chart.fiveElements(),
+                chart,
+                fiveElements,
+                EngineVersion.CURRENT
+        );
+
+        return new ChartResult(chartId, EngineVersion.CURRENT, chart, fiveElements);
+    }
+
+    // Batch path for imports/migrations: one account check, one parallel calculation pass and one multi-row upsert.
+    // Invalid or duplicate items are reported per item instead of failing the whole batch.
+    public BatchChartResult calculateCharts(String userId, BatchCalculateChartRequest request) {
+        ensureUserIsActive(userId);
+        List<CalculateChartRequest> items = request.items();
+        int size = items.size();
+        BatchChartResult.Item[] results = new BatchChartResult.Item[size];
+
+        int[] validIndices = new int[size];
+        LocalDateTime[] birthDateTimes = new LocalDateTime[size];
+        boolean[] unknownBirthTimes = new boolean[size];
+        int validCount = 0;
+        Set<String> seenProfiles = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            CalculateChartRequest item = items.get(i);
+            if (!isUuid(item.birthProfileId())) {
+                results[i] = BatchChartResult.Item.failure(
+                        i,
+                        item.birthProfileId(),
+                        "BIRTH_PROFILE_INVALID",
+                        "birthProfileId must be a UUID"
+                );
+                continue;
+            }
+            if (!seenProfiles.add(item.birthProfileId())) {
+                results[i] = BatchChartResult.Item.failure(
+                        i,
+                        item.birthProfileId(),
+                        "DUPLICATE_BIRTH_PROFILE",
+                        "birthProfileId appears more than once in this batch"
+                );
+                continue;
+            }
+            try {
+                birthDateTimes[validCount] = toKstBirthDateTime(item);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                results[i] = BatchChartResult.Item.failure(i, item.birthProfileId(), "BIRTH_INFO_INVALID", e.getMessage());
+                continue;
+            }
+            unknownBirthTimes[validCount] = item.unknownBirthTime();
+            validIndices[validCount++] = i;
+        }
+
+        long[] codes = sajuCalculator.calculateAll(
+                Arrays.copyOf(birthDateTimes, validCount),
+                Arrays.copyOf(unknownBirthTimes, validCount)
+        );
+
+        List<SupabasePersistenceService.ChartRow> rows = new ArrayList<>(validCount);
+        for (int k = 0; k < validCount; k++) {
+            rows.add(new SupabasePersistenceService.ChartRow(
+                    items.get(validIndices[k]).birthProfileId(),
+                    SajuChartCode.toChartMap(codes[k]),
+                    SajuChartCode.toFiveElementsMap(codes[k])
+            ));
+        }
+        var upserted = persistenceService.upsertSajuCharts(userId, rows, EngineVersion.CURRENT);
+        Map<String, String> chartIds = upserted.chartIds();
+
+        int succeeded = 0;
+        for (int k = 0; k < validCount; k++) {
+            int index = validIndices[k];
+            var row = rows.get(k);
+            String chartId = chartIds.get(row.birthProfileId());
+            String errorCode = upserted.errorCodes().get(row.birthProfileId());
+            if (errorCode != null) {
+                results[index] = BatchChartResult.Item.failure(
+                        index,
+                        row.birthProfileId(),
+                        errorCode,
+                        "BIRTH_PROFILE_NOT_FOUND".equals(errorCode)
+                                ? "birth profile does not exist"
+                                : "birthProfileId was rejected by storage"
+                );
+                continue;
+            }
+            if (chartId == null) {
+                results[index] = BatchChartResult.Item.failure(
+                        index,
+                        row.birthProfileId(),
+                        "CHART_NOT_PERSISTED",
+                        "chart row was not returned by storage"
+                );
+                continue;
+            }
+            results[index] = BatchChartResult.Item.success(
+                    index,
+                    row.birthProfileId(),
+                    new ChartResult(chartId, EngineVersion.CURRENT, row.chart(), row.fiveElements())
+            );
+            succeeded++;
+        }
+
+        return new BatchChartResult(EngineVersion.CURRENT, succeeded, size - succeeded, List.of(results));
+    }
+
+    private boolean isUuid(String value) {
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private long calculateCached(LocalDateTime kstBirthDateTime, boolean unknownBirthTime) {
+        var key = new ChartCacheKey(
+                kstBirthDateTime.toEpochSecond(ZoneOffset.UTC) / 60,
+                unknownBirthTime,
                 EngineVersion.CURRENT
         );
+        Long cached = chartCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long chartCode = sajuCalculator.calculateCode(kstBirthDateTime, unknownBirthTime);
+        chartCache.put(key, chartCode);
+        return chartCode;
+    }
+
+    private record ChartCacheKey(long kstEpochMinute, boolean unknownBirthTime, String engineVersion) {
+    }
+
+    // Treat input date/time as local time in the provided timezone, then compare solar term boundaries in KST.
+    private LocalDateTime toKstBirthDateTime(CalculateChartRequest request) {
+        LocalDate birthDate = resolveSolarBirthDate(request);
+        LocalTime birthTime = request.unknownBirthTime()
+                ? LocalTime.NOON
+                : LocalTime.parse(request.birthTime(), BIRTH_TIME_FORMATTER);
 
-        return new ChartResult(chartId, EngineVersion.CURRENT, chart.chart(), chart.fiveElements());
+        return timeZoneNormalizer.toKst(LocalDateTime.of(birthDate, birthTime), request.birthTimezone());
     }
 
     private LocalDate resolveSolarBirthDate(CalculateChartRequest request) {
@@ -120,8 +334,39 @@ public class EngineService {
     }
 
     public DailyFortuneResult generateDailyFortune(String userId, GenerateDailyFortuneRequest request) {
-        ensureUserIsActive(userId);
+        return generateDailyFortunePayload(userId, request).result();
+    }
+
+    // Same as generateDailyFortune, plus the content serialized exactly once; the bytes are both the
+    // content_json upsert value and the body the controller writes out.
+    // Concurrent identical requests (double taps, client retries) share one computation.
+    public DailyFortunePayload generateDailyFortunePayload(String userId, GenerateDailyFortuneRequest request) {
         LocalDate targetDate = LocalDate.parse(request.date());
+        var key = new DailyFortuneKey(userId, request.chartId(), targetDate);
+        return dailyFortuneFlights.execute(key, () -> computeDailyFortunePayload(userId, request, key));
+    }
+
+    private DailyFortunePayload computeDailyFortunePayload(
+            String userId,
+            GenerateDailyFortuneRequest request,
+            DailyFortuneKey cacheKey
+    ) {
+        ensureUserIsActive(userId);
+        LocalDate targetDate = cacheKey.targetDate();
+        DailyFortuneResult cached = dailyFortuneCache.get(cacheKey);
+        if (cached != null) {
+            return serializeDailyFortune(cached);
+        }
+
+        if (serveStoredDailyFortunes) {
+            // Pre-generated overnight by DailyFortunePregenerationWorker; serve it as-is.
+            DailyFortuneResult stored = persistenceService.findDailyFortune(userId, request.chartId(), targetDate);
+            if (stored != null) {
+                dailyFortuneCache.put(cacheKey, stored);
+                return serializeDailyFortune(stored);
+            }
+        }
+
         var snapshot = persistenceService.findChartSnapshot(userId, request.chartId());
         if (snapshot == null) {
             throw new ApiClientException(
@@ -131,80 +376,181 @@ public class EngineService {
             );
         }
 
-        var fiveElements = snapshot.fiveElements();
-        String dominant = dominantElement(fiveElements);
-        String weak = weakestElement(fiveElements);
-        String dayPillar = snapshot.chart().getOrDefault("day", "-");
-        String chartSignature = String.join("|",
-                snapshot.chart().getOrDefault("year", "-"),
-                snapshot.chart().getOrDefault("month", "-"),
-                snapshot.chart().getOrDefault("day", "-"),
-                snapshot.chart().getOrDefault("hour", "-")
+        DailyFortunePayload payload = serializeDailyFortune(
+                composeDailyFortune(userId, request.chartId(), snapshot, targetDate)
         );
-        int variationNonce = (int) (System.nanoTime() & 0x7fffffff);
+        persistenceService.upsertDailyFortuneReport(
+                userId,
+                request.chartId(),
+                targetDate,
+                payload.contentJson(),
+                false,
+                true
+        );
+        dailyFortuneCache.put(cacheKey, payload.result());
+        return payload;
+    }
+
+    // Stored daily fortune content_json for the read endpoint; never generates.
+    public byte[] findStoredDailyFortune(String userId, String chartId, LocalDate targetDate) {
+        ensureUserIsActive(userId);
+        return storedContent(persistenceService.findReportContentJson(userId, chartId, "daily", targetDate));
+    }
+
+    // Latest stored content_json of a non-daily report type for the read endpoint; never generates.
+    public byte[] findStoredReport(String userId, String chartId, String reportType) {
+        if ("daily".equals(reportType)) {
+            throw new ApiClientException(
+                    "REPORT_TYPE_INVALID",
+                    HttpStatus.BAD_REQUEST,
+                    "daily reports are read per date from /fortunes/daily/{chartId}/{date}"
+            );
+        }
+        ensureUserIsActive(userId);
+        return storedContent(persistenceService.findReportContentJson(userId, chartId, reportType, null));
+    }
+
+    private byte[] storedContent(String contentJson) {
+        if (contentJson == null) {
+            throw new ApiClientException(
+                    "REPORT_NOT_FOUND",
+                    HttpStatus.NOT_FOUND,
+                    "생성된 리포트가 없습니다."
+            );
+        }
+        return contentJson.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Calendar view: one account check, one snapshot read and one multi-row upsert for the whole range,
+    // instead of one fortunes:daily round trip set per day.
+    public DailyFortuneRangeResult generateDailyFortuneRange(String userId, GenerateDailyFortuneRangeRequest request) {
+        ensureUserIsActive(userId);
+        LocalDate from = LocalDate.parse(request.from());
+        LocalDate to = LocalDate.parse(request.to());
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_FORTUNE_RANGE_DAYS) {
+            throw new ApiClientException(
+                    "DATE_RANGE_INVALID",
+                    HttpStatus.BAD_REQUEST,
+                    "date range must be 1-" + MAX_FORTUNE_RANGE_DAYS + " days with from <= to"
+            );
+        }
+
+        int dayCount = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        DailyFortuneResult[] days = new DailyFortuneResult[dayCount];
+        int missing = 0;
+        for (int i = 0; i < dayCount; i++) {
+            days[i] = dailyFortuneCache.get(new DailyFortuneKey(userId, request.chartId(), from.plusDays(i)));
+            if (days[i] == null) {
+                missing++;
+            }
+        }
+
+        if (missing > 0 && serveStoredDailyFortunes) {
+            Map<LocalDate, DailyFortuneResult> stored =
+                    persistenceService.findDailyFortunes(userId, request.chartId(), from, to);
+            for (int i = 0; i < dayCount; i++) {
+                if (days[i] == null && stored.containsKey(from.plusDays(i))) {
+                    days[i] = stored.get(from.plusDays(i));
+                    dailyFortuneCache.put(new DailyFortuneKey(userId, request.chartId(), days[i].date()), days[i]);
+                    missing--;
+                }
+            }
+        }
+
+        if (missing > 0) {
+            var snapshot = persistenceService.findChartSnapshot(userId, request.chartId());
+            if (snapshot == null) {
+                throw new ApiClientException(
+                        "CHART_NOT_FOUND",
+                        HttpStatus.NOT_FOUND,
+                        "사주 차트를 먼저 계산해주세요."
+                );
+            }
+            List<SupabasePersistenceService.DailyFortuneRow> rows = new ArrayList<>(missing);
+            for (int i = 0; i < dayCount; i++) {
+                if (days[i] != null) {
+                    continue;
+                }
+                LocalDate targetDate = from.plusDays(i);
+                days[i] = composeDailyFortune(userId, request.chartId(), snapshot, targetDate);
+                rows.add(new SupabasePersistenceService.DailyFortuneRow(
+                        userId,
+                        request.chartId(),
+                        targetDate,
+                        serializeDailyFortune(days[i]).contentJson()
+                ));
+            }
+            persistenceService.upsertDailyFortuneReports(rows);
+            for (SupabasePersistenceService.DailyFortuneRow row : rows) {
+                int i = (int) ChronoUnit.DAYS.between(from, row.targetDate());
+                dailyFortuneCache.put(new DailyFortuneKey(userId, request.chartId(), row.targetDate()), days[i]);
+            }
+        }
+
+        return new DailyFortuneRangeResult(request.chartId(), from, to, List.of(days));
+    }
+
+    // Builds the daily fortune for a chart without touching storage; used by the request path and the
+    // overnight pre-generation worker.
+    public DailyFortuneResult composeDailyFortune(
+            String userId,
+            String chartId,
+            SupabasePersistenceService.ChartSnapshot snapshot,
+            LocalDate targetDate
+    ) {
+        long chartCode = SajuChartCode.fromMaps(snapshot.chart(), snapshot.fiveElements());
+        FiveElement dominant = FiveElement.of(SajuChartCode.dominantElement(chartCode));
+        FiveElement weak = FiveElement.of(SajuChartCode.weakestElement(chartCode));
+        String dayPillar = snapshot.chart().getOrDefault("day", "-");
 
         int dayFactor = targetDate.getDayOfWeek().getValue() - 4; // -3 ~ +3
-        int baseSeed = (request.chartId() + "|" + chartSignature + "|" + targetDate + "|" + variationNonce).hashCode();
+        int baseSeed;
+        if (deterministicDailyFortune) {
+            baseSeed = (chartCode + "|" + targetDate + "|" + EngineVersion.CURRENT).hashCode();
+        } else {
+            int variationNonce = (int) (System.nanoTime() & 0x7fffffff);
+            baseSeed = (chartId + "|" + chartCode + "|" + targetDate + "|" + variationNonce).hashCode();
+        }
         int baseScore = clamp(
                 62
-                        + fiveElements.getOrDefault(dominant, 0) * 3
-                        - fiveElements.getOrDefault(weak, 0) * 2
+                        + SajuChartCode.elementCount(chartCode, dominant.ordinal()) * 3
+                        - SajuChartCode.elementCount(chartCode, weak.ordinal()) * 2
                         + dayFactor
                         + jitter(baseSeed, -4, 4),
                 48,
                 92
         );
 
-        int moneyScore = clamp(baseScore + categoryOffset(dominant, "money") + jitter(baseSeed ^ 0x11A, -5, 5), 45, 95);
-        int loveScore = clamp(baseScore + categoryOffset(dominant, "love") + jitter(baseSeed ^ 0x22B, -5, 5), 45, 95);
-        int workScore = clamp(baseScore + categoryOffset(dominant, "work") + jitter(baseSeed ^ 0x33C, -5, 5), 45, 95);
-        int healthScore = clamp(baseScore + categoryOffset(dominant, "health") + jitter(baseSeed ^ 0x44D, -5, 5), 45, 95);
+        int moneyScore = clamp(baseScore + categoryOffset(dominant, DailyCategory.MONEY) + jitter(baseSeed ^ 0x11A, -5, 5), 45, 95);
+        int loveScore = clamp(baseScore + categoryOffset(dominant, DailyCategory.LOVE) + jitter(baseSeed ^ 0x22B, -5, 5), 45, 95);
+        int workScore = clamp(baseScore + categoryOffset(dominant, DailyCategory.WORK) + jitter(baseSeed ^ 0x33C, -5, 5), 45, 95);
+        int healthScore = clamp(baseScore + categoryOffset(dominant, DailyCategory.HEALTH) + jitter(baseSeed ^ 0x44D, -5, 5), 45, 95);
 
+        DailyCategoryDetail money = buildDailyCategoryDetail(DailyCategory.MONEY, moneyScore, dominant, weak, dayPillar, baseSeed ^ 0x101);
+        DailyCategoryDetail love = buildDailyCategoryDetail(DailyCategory.LOVE, loveScore, dominant, weak, dayPillar, baseSeed ^ 0x202);
+        DailyCategoryDetail work = buildDailyCategoryDetail(DailyCategory.WORK, workScore, dominant, weak, dayPillar, baseSeed ^ 0x303);
+        DailyCategoryDetail health = buildDailyCategoryDetail(DailyCategory.HEALTH, healthScore, dominant, weak, dayPillar, baseSeed ^ 0x404);
         Map<String, DailyCategoryDetail> details = Map.of(
-                "money", buildDailyCategoryDetail("money", moneyScore, dominant, weak, dayPillar, baseSeed ^ 0x101),
-                "love", buildDailyCategoryDetail("love", loveScore, dominant, weak, dayPillar, baseSeed ^ 0x202),
-                "work", buildDailyCategoryDetail("work", workScore, dominant, weak, dayPillar, baseSeed ^ 0x303),
-                "health", buildDailyCategoryDetail("health", healthScore, dominant, weak, dayPillar, baseSeed ^ 0x404)
+                DailyCategory.MONEY.key(), money,
+                DailyCategory.LOVE.key(), love,
+                DailyCategory.WORK.key(), work,
+                DailyCategory.HEALTH.key(), health
         );
 
         Map<String, String> category = Map.of(
-                "money", details.get("money").summary(),
-                "love", details.get("love").summary(),
-                "work", details.get("work").summary(),
-                "health", details.get("health").summary()
+                DailyCategory.MONEY.key(), money.summary(),
+                DailyCategory.LOVE.key(), love.summary(),
+                DailyCategory.WORK.key(), work.summary(),
+                DailyCategory.HEALTH.key(), health.summary()
         );
 
         int totalScore = clamp((moneyScore + loveScore + workScore + healthScore) / 4, 45, 95);
-        String summaryLead = pickOne(List.of(
-                "오늘은 흐름을 빠르게 타는 날입니다.",
-                "오늘은 균형을 잡으면 성과가 커지는 날입니다.",
-                "오늘은 선택과 집중이 잘 맞는 날입니다.",
-                "오늘은 리듬을 정리할수록 운이 붙는 날입니다."
-        ), baseSeed ^ 0x77A);
-        String summary = summaryLead + " "
-                + elementKo(dominant) + " 기운이 중심이 되고, "
-                + "일주(" + dayPillar + ") 흐름상 " + elementKo(weak) + " 기운 보완이 포인트입니다.";
+        String summary = DailyCategory.dailySummary(baseSeed ^ 0x77A, dominant, weak, dayPillar);
         List<String> actions = List.of(
-                details.get("money").actions().get(0),
-                details.get("love").actions().get(0),
-                details.get("work").actions().get(0),
-                details.get("health").actions().get(0)
-        );
-
-        persistenceService.upsertDailyFortuneReport(
-                userId,
-                request.chartId(),
-                targetDate,
-                Map.of(
-                        "date", request.date(),
-                        "score", totalScore,
-                        "summary", summary,
-                        "category", category,
-                        "categoryDetails", details,
-                        "actions", actions
-                ),
-                false,
-                true
+                money.actions().get(0),
+                love.actions().get(0),
+                work.actions().get(0),
+                health.actions().get(0)
         );
 
         return new DailyFortuneResult(
@@ -218,228 +564,48 @@ public class EngineService {
         );
     }
 
-    private String dominantElement(Map<String, Integer> fiveElements) {
-        String dominant = "earth";
-        int max = Integer.MIN_VALUE;
-        for (var e : fiveElements.entrySet()) {
-            int value = e.getValue() == null ? 0 : e.getValue();
-            if (value > max) {
-                max = value;
-                dominant = e.getKey();
-            }
+    public DailyFortunePayload serializeDailyFortune(DailyFortuneResult result) {
+        try {
+            return new DailyFortunePayload(result, dailyFortuneContentWriter.writeValueAsBytes(DailyFortuneContent.of(result)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize daily fortune", e);
         }
-        return dominant;
     }
 
-    private String weakestElement(Map<String, Integer> fiveElements) {
-        String weak = "fire";
-        int min = Integer.MAX_VALUE;
-        for (var e : fiveElements.entrySet()) {
-            int value = e.getValue() == null ? 0 : e.getValue();
-            if (value < min) {
-                min = value;
-                weak = e.getKey();
-            }
-        }
-        return weak;
-    }
-
-    private int categoryOffset(String dominantElement, String category) {
-        return switch (dominantElement) {
-            case "wood" -> switch (category) {
-                case "work" -> 3;
-                case "health" -> 2;
-                case "love" -> 1;
-                default -> 0;
-            };
-            case "fire" -> switch (category) {
-                case "love" -> 3;
-                case "money" -> 2;
-                case "work" -> 1;
-                default -> -1;
-            };
-            case "earth" -> switch (category) {
-                case "money" -> 3;
-                case "health" -> 2;
-                case "work" -> 1;
-                default -> 0;
-            };
-            case "metal" -> switch (category) {
-                case "money" -> 2;
-                case "work" -> 2;
-                case "health" -> 1;
-                default -> 0;
-            };
-            case "water" -> switch (category) {
-                case "work" -> 3;
-                case "love" -> 2;
-                case "money" -> 1;
-                default -> 0;
-            };
-            default -> 0;
-        };
+    // contentJson is the DailyFortuneContent JSON object (UTF-8).
+    public record DailyFortunePayload(DailyFortuneResult result, byte[] contentJson) {
+    }
+
+    private record AiInterpretationKey(String userId, String chartId, boolean regenerate) {
+    }
+
+    private record AiInterpretationCacheKey(String userId, String chartId, String signature) {
+    }
+
+    private record DailyFortuneKey(String userId, String chartId, LocalDate targetDate) {
+    }
+
+    private int categoryOffset(FiveElement dominant, DailyCategory category) {
+        return CATEGORY_OFFSETS[dominant.ordinal()][category.ordinal()];
     }
 
     private DailyCategoryDetail buildDailyCategoryDetail(
-            String category,
+            DailyCategory category,
             int score,
-            String dominant,
-            String weak,
+            FiveElement dominant,
+            FiveElement weak,
             String dayPillar,
             int seed
     ) {
-        String dominantKo = elementKo(dominant);
-        String weakKo = elementKo(weak);
-        String summary = switch (category) {
-            case "money" -> pickOne(List.of(
-                    dominantKo + " 기운이 자금 흐름을 움직입니다. " + weakKo + " 기운 보완이 지출 안정에 도움이 됩니다.",
-                    dominantKo + " 기운이 수입/지출 판단을 빠르게 만듭니다. 무리한 지출만 피하면 안정적입니다.",
-                    dominantKo + " 기운이 재무 결정의 속도를 올립니다. 작은 절약 습관이 특히 효과적입니다."
-            ), seed ^ 0x701);
-            case "love" -> pickOne(List.of(
-                    dominantKo + " 기운이 대화의 온도를 높입니다. 감정 표현은 부드럽게 조절하는 편이 좋습니다.",
-                    dominantKo + " 기운으로 관계 반응이 빨라집니다. 말의 톤을 한 단계 낮추면 더 좋습니다.",
-                    dominantKo + " 기운이 관계 주도권을 줍니다. 상대 속도를 존중하면 흐름이 안정됩니다."
-            ), seed ^ 0x702);
-            case "work" -> pickOne(List.of(
-                    dominantKo + " 기운으로 실행력이 살아납니다. 일주(" + dayPillar + ") 흐름상 우선순위 정리가 성과를 키웁니다.",
-                    dominantKo + " 기운이 업무 추진력을 올립니다. 일주(" + dayPillar + ") 기준으론 멀티태스킹보다 단일 집중이 유리합니다.",
-                    dominantKo + " 기운이 실행 속도를 밀어줍니다. 핵심 1개 과업부터 처리하면 효율이 좋습니다."
-            ), seed ^ 0x703);
-            case "health" -> pickOne(List.of(
-                    dominantKo + " 기운이 활력을 주지만, " + weakKo + " 기운이 약하면 회복 루틴이 더 중요해집니다.",
-                    dominantKo + " 기운으로 체력 반응이 빠릅니다. " + weakKo + " 기운 보완을 위해 수면·수분 관리가 핵심입니다.",
-                    dominantKo + " 기운이 활동성을 높입니다. 과로를 막는 휴식 타이밍을 미리 잡아두세요."
-            ), seed ^ 0x704);
-            default -> "오늘의 흐름을 참고해 균형 있게 움직여보세요.";
-        };
-
-        List<String> goodPool = switch (category) {
-            case "money" -> List.of(
-                    "고정 지출을 정리하면 체감 여유가 생깁니다.",
-                    "소액 절약이 누적 성과로 이어집니다.",
-                    "수입/지출을 한 번에 보는 습관이 유리합니다.",
-                    "가격 비교 후 하루 뒤 결제하면 실수가 줄어듭니다.",
-                    "예산을 먼저 정하면 소비 만족도가 높아집니다."
-            );
-            case "love" -> List.of(
-                    "짧고 따뜻한 표현이 관계를 안정시킵니다.",
-                    "상대의 입장을 먼저 요약하면 오해가 줄어듭니다.",
-                    "연락 리듬을 일정하게 가져가면 신뢰가 높아집니다.",
-                    "즉답보다 맥락 설명이 관계를 부드럽게 만듭니다.",
-                    "기대치를 짧게 공유하면 갈등이 줄어듭니다."
-            );
-            case "work" -> List.of(
-                    "중요도 높은 1개 과업에 집중하면 성과가 빠릅니다.",
-                    "오전 집중 블록이 생산성을 끌어올립니다.",
-                    "핵심 결정은 근거를 짧게 정리해 공유하면 좋습니다.",
-                    "반복 업무를 먼저 끝내면 오후 효율이 좋아집니다.",
-                    "완벽함보다 완료 기준을 정하면 속도가 붙습니다."
-            );
-            case "health" -> List.of(
-                    "가벼운 걷기와 스트레칭이 컨디션을 살립니다.",
-                    "수분 섭취를 먼저 챙기면 피로가 완만해집니다.",
-                    "식사 리듬을 일정하게 유지하면 집중력이 좋아집니다.",
-                    "잠깐의 햇빛 노출이 생체 리듬을 돕습니다.",
-                    "짧은 호흡 정리가 긴장 완화에 유리합니다."
-            );
-            default -> List.of("기본 루틴을 지키면 흐름이 안정됩니다.");
-        };
-
-        List<String> cautionPool = switch (category) {
-            case "money" -> List.of(
-                    "계획 없는 소액 결제 반복",
-                    "즉흥적인 비교·추가 구매",
-                    "구독/자동결제 점검 누락",
-                    "할인 문구에 급히 반응하는 소비",
-                    "단기 기분전환성 지출 누적"
-            );
-            case "love" -> List.of(
-                    "단정적인 표현으로 말끝이 강해지는 것",
-                    "감정 누적 후 한 번에 폭발하는 반응",
-                    "상대 확인 없이 결론을 먼저 내리는 습관",
-                    "대화 타이밍을 놓친 뒤 장기 침묵",
-                    "상대의 표현을 빠르게 오해하는 반응"
-            );
-            case "work" -> List.of(
-                    "동시다발 작업으로 집중 분산",
-                    "마감 직전 급한 의사결정",
-                    "우선순위 없이 할 일을 늘리는 것",
-                    "회의가 길어져 실행 시간이 줄어드는 것",
-                    "검토 없이 바로 배포/제출하는 습관"
-            );
-            case "health" -> List.of(
-                    "수면 시간 불규칙",
-                    "카페인·당류 과다 섭취",
-                    "오랜 시간 같은 자세 유지",
-                    "식사 간격이 지나치게 길어지는 것",
-                    "회복 시간 없이 연속 일정 소화"
-            );
-            default -> List.of("과한 무리와 급한 결정");
-        };
-
-        List<String> actionPool = switch (category) {
-            case "money" -> List.of(
-                    "오늘 지출 상한 1개만 먼저 정하기",
-                    "자동결제 목록 1개 점검하기",
-                    "불필요한 소비 1건만 미루기",
-                    "결제 전 장바구니에서 1개 빼보기",
-                    "현금흐름 메모 3줄 작성하기"
-            );
-            case "love" -> List.of(
-                    "요청은 한 문장으로 부드럽게 전달하기",
-                    "중요 대화 전 10초 멈추고 톤 점검하기",
-                    "감사/칭찬 메시지 1회 먼저 보내기",
-                    "오해 가능 문장을 질문형으로 바꾸기",
-                    "오늘 연락 리듬(시간대) 하나 정하기"
-            );
-            case "work" -> List.of(
-                    "오늘 Top 3 중 1순위부터 90분 집중하기",
-                    "회의 전 결정 항목 3개 미리 적기",
-                    "오후에는 정리·마감 작업으로 전환하기",
-                    "메신저 확인 시간을 2회로 제한하기",
-                    "완료 기준을 먼저 정의하고 시작하기"
-            );
-            case "health" -> List.of(
-                    "물 2잔 먼저 마시기",
-                    "저녁 20분 가볍게 걷기",
-                    "잠들기 1시간 전 화면 사용 줄이기",
-                    "오전/오후 1회씩 목·어깨 스트레칭",
-                    "카페인 컵 수를 하루 1잔 줄이기"
-            );
-            default -> List.of("작은 실행 1개부터 시작하기");
-        };
-
         return new DailyCategoryDetail(
                 score,
-                summary,
-                pickN(goodPool, seed ^ 0x51, 2),
-                pickN(cautionPool, seed ^ 0x52, 2),
-                pickN(actionPool, seed ^ 0x53, 2)
+                category.summary(seed, dominant, weak, dayPillar),
+                category.good(seed ^ 0x51),
+                category.cautions(seed ^ 0x52),
+                category.actions(seed ^ 0x53)
         );
     }
 
-    private List<String> pickN(List<String> source, int seed, int count) {
-        if (source == null || source.isEmpty() || count <= 0) {
-            return List.of();
-        }
-        int limit = Math.min(count, source.size());
-        int start = Math.floorMod(seed, source.size());
-        List<String> out = new java.util.ArrayList<>(limit);
-        for (int i = 0; i < limit; i++) {
-            out.add(source.get((start + i) % source.size()));
-        }
-        return out;
-    }
-
-    private String pickOne(List<String> source, int seed) {
-        if (source == null || source.isEmpty()) {
-            return "";
-        }
-        int idx = Math.floorMod(seed, source.size());
-        return source.get(idx);
-    }
-
     private int jitter(int seed, int min, int max) {
         int width = max - min + 1;
         return min + Math.floorMod(seed, width);
@@ -449,18 +615,31 @@ public class EngineService {
         return Math.max(min, Math.min(max, value));
     }
 
-    private String elementKo(String element) {
-        return switch (element) {
-            case "wood" -> "목";
-            case "fire" -> "화";
-            case "earth" -> "토";
-            case "metal" -> "금";
-            case "water" -> "수";
-            default -> "-";
-        };
+    // Concurrent identical requests share one LLM call. regenerate is part of the key: a forced regeneration must not
+    // join a call that may answer from the stored interpretation, and a normal call need not wait for one.
+    public ReportResult generateAiInterpretation(String userId, GenerateAiInterpretationRequest request) {
+        return aiInterpretationFlights.execute(
+                new AiInterpretationKey(userId, request.chartId(), request.regenerate()),
+                () -> computeAiInterpretation(userId, request, null)
+        );
     }
 
-    public ReportResult generateAiInterpretation(String userId, GenerateAiInterpretationRequest request) {
+    // Same result as generateAiInterpretation, but each interpretation section is passed to onSection as soon as
+    // it is available (all at once for a stored interpretation). Not coalesced: every caller needs its own sections.
+    public ReportResult streamAiInterpretation(
+            String userId,
+            GenerateAiInterpretationRequest request,
+            BiConsumer<String, Object> onSection
+    ) {
+        return computeAiInterpretation(userId, request, onSection);
+    }
+
+    // onSection is null for the non-streaming call.
+    private ReportResult computeAiInterpretation(
+            String userId,
+            GenerateAiInterpretationRequest request,
+            BiConsumer<String, Object> onSection
+    ) {
         ensureUserIsActive(userId);
         var snapshot = persistenceService.findChartSnapshot(userId, request.chartId());
         if (snapshot == null) {
@@ -471,13 +650,33 @@ public class EngineService {
             );
         }
 
-        Map<String, Object> content = openAiAnalysisClient.generateSajuInterpretation(
-                snapshot.chart(),
-                snapshot.fiveElements()
-        );
+        String signature = openAiAnalysisClient.interpretationSignature(snapshot.chart(), snapshot.fiveElements());
+        var cacheKey = new AiInterpretationCacheKey(userId, request.chartId(), signature);
+        if (!request.regenerate()) {
+            Map<String, Object> stored = findCachedAiInterpretation(cacheKey);
+            if (stored != null) {
+                if (onSection != null) {
+                    for (String section : OpenAiAnalysisClient.SECTIONS) {
+                        if (stored.containsKey(section)) {
+                            onSection.accept(section, stored.get(section));
+                        }
+                    }
+                }
+                return new ReportResult(request.chartId(), "ai_interpretation", stored);
+            }
+        }
+
+        Map<String, Object> content = onSection == null
+                ? openAiAnalysisClient.generateSajuInterpretation(snapshot.chart(), snapshot.fiveElements())
+                : openAiAnalysisClient.streamSajuInterpretation(snapshot.chart(), snapshot.fiveElements(), onSection);
         content = new LinkedHashMap<>(content);
         content.put("analysisInput", buildAiAnalysisInput(snapshot.chart(), snapshot.fiveElements()));
         content.put("analysisInputText", buildAiAnalysisInputText(snapshot.chart(), snapshot.fiveElements()));
+        // Deterministic fallback content is stored without a signature so the next request retries the LLM.
+        boolean cacheable = !"fallback".equals(content.get("source"));
+        if (cacheable) {
+            content.put("signature", signature);
+        }
 
         try {
             persistenceService.upsertNonDailyReport(
@@ -494,9 +693,34 @@ public class EngineService {
             log.warn("ai interpretation persistence skipped due to storage error: {}", e.getMessage());
         }
 
+        if (cacheable) {
+            aiInterpretationCache.put(cacheKey, content);
+        }
         return new ReportResult(request.chartId(), "ai_interpretation", content);
     }
 
+    private Map<String, Object> findCachedAiInterpretation(AiInterpretationCacheKey cacheKey) {
+        Map<String, Object> cached = aiInterpretationCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Map<String, Object> stored = persistenceService.findAiInterpretation(
+                    cacheKey.userId(),
+                    cacheKey.chartId(),
+                    cacheKey.signature()
+            );
+            if (stored == null || stored.isEmpty()) {
+                return null;
+            }
+            aiInterpretationCache.put(cacheKey, stored);
+            return stored;
+        } catch (IllegalStateException e) {
+            log.warn("stored ai interpretation lookup skipped due to storage error: {}", e.getMessage());
+            return null;
+        }
+    }
+
     private void ensureUserIsActive(String userId) {
         if (persistenceService.isProfileDeactivated(userId)) {
             throw new ApiClientException(
@@ -549,13 +773,7 @@ public class EngineService {
         sajuInfo.put("tenGodStem", tenGodStem);
         sajuInfo.put("tenGodBranch", tenGodBranch);
         sajuInfo.put("twelveStates", twelveStates);
-        sajuInfo.put("fiveElements", Map.of(
-                "wood", fiveElements.getOrDefault("wood", 0),
-                "fire", fiveElements.getOrDefault("fire", 0),
-                "earth", fiveElements.getOrDefault("earth", 0),
-                "metal", fiveElements.getOrDefault("metal", 0),
-                "water", fiveElements.getOrDefault("water", 0)
-        ));
+        sajuInfo.put("fiveElements", FiveElementCounts.fromMap(fiveElements).toMap());
 
         Map<String, Object> questions = new LinkedHashMap<>();
         questions.put("title", "질문 사항");
@@ -596,11 +814,12 @@ public class EngineService {
         String tenGodBranch = firstNonBlank(chart.get("tenGodBranches"), chart.get("ten_god_branches"), "미제공");
         String twelveStates = firstNonBlank(chart.get("twelveStates"), chart.get("twelve_states"), "미제공");
 
-        int wood = fiveElements.getOrDefault("wood", 0);
-        int fire = fiveElements.getOrDefault("fire", 0);
-        int earth = fiveElements.getOrDefault("earth", 0);
-        int metal = fiveElements.getOrDefault("metal", 0);
-        int water = fiveElements.getOrDefault("water", 0);
+        FiveElementCounts counts = FiveElementCounts.fromMap(fiveElements);
+        int wood = counts.count(FiveElement.WOOD);
+        int fire = counts.count(FiveElement.FIRE);
+        int earth = counts.count(FiveElement.EARTH);
+        int metal = counts.count(FiveElement.METAL);
+        int water = counts.count(FiveElement.WATER);
 
         return """
                 [시스템 가이드: FortuneLog]
@@ -6,6 +6,6 @@ public final class EngineVersion {
     }
 
     // Bump this any time calculation logic changes in a user-visible way.
-    public static final String CURRENT = "v0.1.1";
+    public static final String CURRENT = "v0.2.0";
 }
 
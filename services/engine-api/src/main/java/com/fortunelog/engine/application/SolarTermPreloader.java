@@ -0,0 +1,33 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.domain.SajuCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SolarTermPreloader {
+
+    private static final Logger log = LoggerFactory.getLogger(SolarTermPreloader.class);
+
+    private final boolean enabled;
+
+    public SolarTermPreloader(
+            @Value("${app.engine.preload-solar-terms:true}") boolean enabled
+    ) {
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        SajuCalculator.preloadSolarTerms();
+        log.info("solar terms preloaded: elapsedMs={}", System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fortunelog.engine.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchCalculateChartRequest(
+        @NotEmpty @Size(max = 1000) List<@Valid CalculateChartRequest> items
+) {
+}
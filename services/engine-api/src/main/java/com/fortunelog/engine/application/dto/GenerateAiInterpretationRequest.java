@@ -3,6 +3,12 @@ package com.fortunelog.engine.application.dto;
 import jakarta.validation.constraints.NotBlank;
 
 public record GenerateAiInterpretationRequest(
-        @NotBlank String chartId
+        @NotBlank String chartId,
+        // Skip the stored interpretation and call the LLM again.
+        boolean regenerate
 ) {
+
+    public GenerateAiInterpretationRequest(String chartId) {
+        this(chartId, false);
+    }
 }
@@ -0,0 +1,11 @@
+package com.fortunelog.engine.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+// Inclusive date range; at most EngineService.MAX_FORTUNE_RANGE_DAYS days.
+public record GenerateDailyFortuneRangeRequest(
+        @NotBlank String chartId,
+        @NotBlank String from,
+        @NotBlank String to
+) {
+}
@@ -0,0 +1,146 @@
+package com.fortunelog.engine.common;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Concurrency limit that adapts to observed latency (additive increase, multiplicative decrease): a call finishing
+// within latencyThreshold raises the limit by 1/limit (about +1 per limit's worth of calls); a slow or dropped call
+// multiplies it by BACKOFF_RATIO. Callers over the limit wait in a bounded queue for at most maxWait; tryAcquire
+// returns null when the queue is full or the wait runs out.
+public final class AimdLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final long latencyThresholdNanos;
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AimdLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            int maxQueue,
+            Duration maxWait,
+            Duration latencyThreshold
+    ) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.maxWaitNanos = Math.max(0L, maxWait.toNanos());
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.max(this.minLimit, Math.min(initialLimit, this.maxLimit));
+    }
+
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return new Permit();
+            }
+            if (waiting >= maxQueue) {
+                return null;
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+            return new Permit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(int signal) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (signal > 0) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            } else if (signal < 0) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Record the outcome with succeeded or dropped; close releases the slot without a sample if neither was called.
+    public final class Permit implements AutoCloseable {
+
+        private boolean released;
+
+        private Permit() {
+        }
+
+        public void succeeded(long latency, TimeUnit unit) {
+            finish(unit.toNanos(latency) <= latencyThresholdNanos ? 1 : -1);
+        }
+
+        public void dropped() {
+            finish(-1);
+        }
+
+        @Override
+        public void close() {
+            finish(0);
+        }
+
+        private void finish(int signal) {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(signal);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.fortunelog.engine.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// Count-based circuit breaker.
+// CLOSED: the outcomes of the last windowSize calls are kept; once at least minimumCalls are recorded and the
+// failure rate reaches failureRatePercent, it opens. OPEN: tryAcquire refuses calls until openDuration has passed,
+// then HALF_OPEN lets halfOpenProbes calls through; all of them succeeding closes it, any failure reopens it.
+// Counted as fortunelog.circuit_breaker.transitions{name, state} and fortunelog.circuit_breaker.rejected{name};
+// fortunelog.circuit_breaker.state{name} is 0 closed, 1 open, 2 half-open.
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+    // Ring buffer of recent outcomes while CLOSED; true = failure.
+    private final boolean[] window;
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+    private final Counter rejected;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public CircuitBreaker(
+            MeterRegistry meterRegistry,
+            String name,
+            int windowSize,
+            int minimumCalls,
+            int failureRatePercent,
+            Duration openDuration,
+            int halfOpenProbes
+    ) {
+        this(meterRegistry, name, windowSize, minimumCalls, failureRatePercent, openDuration, halfOpenProbes, System::nanoTime);
+    }
+
+    CircuitBreaker(
+            MeterRegistry meterRegistry,
+            String name,
+            int windowSize,
+            int minimumCalls,
+            int failureRatePercent,
+            Duration openDuration,
+            int halfOpenProbes,
+            LongSupplier nanoClock
+    ) {
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRatePercent = Math.max(1, Math.min(failureRatePercent, 100));
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.nanoClock = nanoClock;
+        for (State target : State.values()) {
+            transitions.put(target, Counter.builder("fortunelog.circuit_breaker.transitions")
+                    .tag("name", name)
+                    .tag("state", target.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.rejected = Counter.builder("fortunelog.circuit_breaker.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("fortunelog.circuit_breaker.state", this, breaker -> breaker.state().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    // Every true return must be followed by exactly one onSuccess, onFailure or onIgnored.
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            transition(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> reject();
+            case HALF_OPEN -> {
+                if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                    yield reject();
+                }
+                probesInFlight++;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        switch (state) {
+            case CLOSED -> record(false);
+            case HALF_OPEN -> {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                probeSuccesses++;
+                if (probeSuccesses >= halfOpenProbes) {
+                    transition(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // Started before the breaker opened; too late to matter.
+            }
+        }
+    }
+
+    public synchronized void onFailure() {
+        switch (state) {
+            case CLOSED -> {
+                record(true);
+                if (recorded >= minimumCalls && failures * 100 >= failureRatePercent * recorded) {
+                    transition(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> transition(State.OPEN);
+            case OPEN -> {
+            }
+        }
+    }
+
+    // The call ended without saying anything about the downstream (e.g. it was never sent).
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private boolean reject() {
+        rejected.increment();
+        return false;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % window.length;
+    }
+
+    private void transition(State target) {
+        state = target;
+        switch (target) {
+            case OPEN -> openedAtNanos = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            }
+            case CLOSED -> {
+                recorded = 0;
+                next = 0;
+                failures = 0;
+            }
+        }
+        transitions.get(target).increment();
+    }
+}
@@ -0,0 +1,80 @@
+package com.fortunelog.engine.common;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// Decides when to send a hedged (duplicate) request: once the primary has been outstanding for the given percentile
+// of recently observed latencies (never less than minDelay). No hedging until minSamples latencies are known, and at
+// most maxHedgesPerMinute hedges per clock minute so a slow provider cannot double the spend.
+public final class HedgingPolicy {
+
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final int percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final int maxHedgesPerMinute;
+    private final LongSupplier nanoClock;
+    // Ring buffer of the most recent successful latencies.
+    private final long[] latencies;
+    private int recorded;
+    private int next;
+    private long budgetWindowStart;
+    private int hedgesInWindow;
+
+    public HedgingPolicy(int percentile, int windowSize, int minSamples, Duration minDelay, int maxHedgesPerMinute) {
+        this(percentile, windowSize, minSamples, minDelay, maxHedgesPerMinute, System::nanoTime);
+    }
+
+    HedgingPolicy(
+            int percentile,
+            int windowSize,
+            int minSamples,
+            Duration minDelay,
+            int maxHedgesPerMinute,
+            LongSupplier nanoClock
+    ) {
+        this.percentile = Math.max(1, Math.min(percentile, 99));
+        this.latencies = new long[Math.max(1, windowSize)];
+        this.minSamples = Math.max(1, Math.min(minSamples, latencies.length));
+        this.minDelayNanos = Math.max(0L, minDelay.toNanos());
+        this.maxHedgesPerMinute = Math.max(0, maxHedgesPerMinute);
+        this.nanoClock = nanoClock;
+        this.budgetWindowStart = nanoClock.getAsLong();
+    }
+
+    public synchronized void recordLatency(long latency, TimeUnit unit) {
+        latencies[next] = unit.toNanos(latency);
+        next = (next + 1) % latencies.length;
+        if (recorded < latencies.length) {
+            recorded++;
+        }
+    }
+
+    // How long to wait for the primary before hedging, or -1 while there are too few samples.
+    public synchronized long hedgeDelayNanos() {
+        if (recorded < minSamples) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * recorded) - 1;
+        return Math.max(minDelayNanos, sorted[Math.max(0, index)]);
+    }
+
+    // Takes one hedge from this minute's budget; false once it is spent.
+    public synchronized boolean tryAcquireHedge() {
+        long now = nanoClock.getAsLong();
+        if (now - budgetWindowStart >= MINUTE_NANOS) {
+            budgetWindowStart = now;
+            hedgesInWindow = 0;
+        }
+        if (hedgesInWindow >= maxHedgesPerMinute) {
+            return false;
+        }
+        hedgesInWindow++;
+        return true;
+    }
+}
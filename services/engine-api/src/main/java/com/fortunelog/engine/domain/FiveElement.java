@@ -0,0 +1,49 @@
+package com.fortunelog.engine.domain;
+
+// 오행. Ordinals match the SajuChartCode element constants (WOOD = 0 ... WATER = 4).
+public enum FiveElement {
+
+    WOOD("wood", "목"),
+    FIRE("fire", "화"),
+    EARTH("earth", "토"),
+    METAL("metal", "금"),
+    WATER("water", "수");
+
+    private static final FiveElement[] VALUES = values();
+
+    private final String key;
+    private final String ko;
+
+    FiveElement(String key, String ko) {
+        this.key = key;
+        this.ko = ko;
+    }
+
+    // Key used in five_elements_json and API responses.
+    public String key() {
+        return key;
+    }
+
+    public String ko() {
+        return ko;
+    }
+
+    public static FiveElement of(int index) {
+        return VALUES[index];
+    }
+
+    // Null for unknown keys.
+    public static FiveElement fromKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        return switch (key) {
+            case "wood" -> WOOD;
+            case "fire" -> FIRE;
+            case "earth" -> EARTH;
+            case "metal" -> METAL;
+            case "water" -> WATER;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.fortunelog.engine.domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Five-element counts indexed by FiveElement ordinal, for code that starts from the stored
+// Map<String, Integer> shape rather than a SajuChartCode.
+public final class FiveElementCounts {
+
+    private final int[] counts;
+
+    private FiveElementCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    // Unknown keys are ignored; missing or null counts are 0.
+    public static FiveElementCounts fromMap(Map<String, Integer> fiveElements) {
+        int[] counts = new int[SajuChartCode.ELEMENT_COUNT];
+        if (fiveElements != null) {
+            for (Map.Entry<String, Integer> entry : fiveElements.entrySet()) {
+                FiveElement element = FiveElement.fromKey(entry.getKey());
+                if (element != null && entry.getValue() != null) {
+                    counts[element.ordinal()] = entry.getValue();
+                }
+            }
+        }
+        return new FiveElementCounts(counts);
+    }
+
+    public static FiveElementCounts fromCode(long chartCode) {
+        int[] counts = new int[SajuChartCode.ELEMENT_COUNT];
+        for (int element = 0; element < counts.length; element++) {
+            counts[element] = SajuChartCode.elementCount(chartCode, element);
+        }
+        return new FiveElementCounts(counts);
+    }
+
+    public int count(FiveElement element) {
+        return counts[element.ordinal()];
+    }
+
+    // Highest count; ties resolve to the earlier element (wood, fire, earth, metal, water), as in SajuChartCode.
+    public FiveElement dominant() {
+        int dominant = 0;
+        for (int element = 1; element < counts.length; element++) {
+            if (counts[element] > counts[dominant]) {
+                dominant = element;
+            }
+        }
+        return FiveElement.of(dominant);
+    }
+
+    // Lowest count; ties resolve to the earlier element (wood, fire, earth, metal, water), as in SajuChartCode.
+    public FiveElement weakest() {
+        int weak = 0;
+        for (int element = 1; element < counts.length; element++) {
+            if (counts[element] < counts[weak]) {
+                weak = element;
+            }
+        }
+        return FiveElement.of(weak);
+    }
+
+    public Map<String, Integer> toMap() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (FiveElement element : FiveElement.values()) {
+            map.put(element.key(), counts[element.ordinal()]);
+        }
+        return map;
+    }
+}
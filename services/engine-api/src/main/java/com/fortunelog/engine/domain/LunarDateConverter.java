@@ -6,7 +6,8 @@ public class LunarDateConverter {
 
     private static final int START_YEAR = 1900;
     private static final int END_YEAR = 2099;
-    private static final LocalDate BASE_SOLAR_DATE = LocalDate.of(1900, 1, 31); // lunar 1900-01-01
+    private static final long BASE_EPOCH_DAY = LocalDate.of(1900, 1, 31).toEpochDay(); // lunar 1900-01-01
+    private static final int MONTH_SLOTS_PER_YEAR = 13;
 
     // Data source: traditional lunisolar conversion table (1900-2099)
     private static final int[] LUNAR_INFO = {
@@ -32,6 +33,11 @@ public class LunarDateConverter {
             0x0e968, 0x0d520, 0x0daa0, 0x16aa6, 0x056d0, 0x04ae0, 0x0a9d4, 0x0a2d0, 0x0d150, 0x0f252
     };
 
+    // Epoch day on which each lunar month starts, 13 slots per year in calendar order (the leap month, if any,
+    // directly follows its regular month). Years without a leap month repeat the next year's first day in
+    // slot 12, and the final entry is the day after lunar 2099-12-30, so the array is non-decreasing.
+    private static final long[] MONTH_START_EPOCH_DAYS = buildMonthStartEpochDays();
+
     public LocalDate toSolarDate(int year, int month, int day, boolean isLeapMonth) {
         if (year < START_YEAR || year > END_YEAR) {
             throw new IllegalArgumentException("year must be between " + START_YEAR + " and " + END_YEAR + ": " + year);
@@ -57,44 +63,85 @@ public class LunarDateConverter {
             );
         }
 
-        long offsetDays = 0;
+        long monthStart = MONTH_START_EPOCH_DAYS[(year - START_YEAR) * MONTH_SLOTS_PER_YEAR + monthSlot(month, isLeapMonth, leap)];
+        return LocalDate.ofEpochDay(monthStart + (day - 1));
+    }
 
-        for (int y = START_YEAR; y < year; y++) {
-            offsetDays += yearDays(y);
+    public LunarDate toLunarDate(LocalDate solarDate) {
+        long epochDay = solarDate.toEpochDay();
+        if (epochDay < MONTH_START_EPOCH_DAYS[0] || epochDay >= MONTH_START_EPOCH_DAYS[MONTH_START_EPOCH_DAYS.length - 1]) {
+            throw new IllegalArgumentException(
+                    "date must be between " + LocalDate.ofEpochDay(MONTH_START_EPOCH_DAYS[0]) + " and "
+                            + LocalDate.ofEpochDay(MONTH_START_EPOCH_DAYS[MONTH_START_EPOCH_DAYS.length - 1] - 1)
+                            + ": " + solarDate
+            );
         }
 
-        for (int m = 1; m < month; m++) {
-            offsetDays += monthDays(year, m);
-            if (m == leap) {
-                offsetDays += leapDays(year);
-            }
+        int index = floorIndex(MONTH_START_EPOCH_DAYS, epochDay);
+        int year = START_YEAR + index / MONTH_SLOTS_PER_YEAR;
+        int slot = index % MONTH_SLOTS_PER_YEAR;
+        int leap = leapMonth(year);
+        int day = (int) (epochDay - MONTH_START_EPOCH_DAYS[index]) + 1;
+        if (leap != 0 && slot == leap) {
+            return new LunarDate(year, leap, day, true);
         }
+        int month = leap != 0 && slot > leap ? slot : slot + 1;
+        return new LunarDate(year, month, day, false);
+    }
 
-        if (isLeapMonth) {
-            offsetDays += monthDays(year, month);
+    // Last index with values[i] <= key. Repeated values (slot 12 of a year without a leap month) resolve to the
+    // later index, i.e. the first month of the following year.
+    private static int floorIndex(long[] values, long key) {
+        int low = 0;
+        int high = values.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (values[mid] <= key) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
         }
+        return low;
+    }
 
-        offsetDays += (day - 1);
-
-        return BASE_SOLAR_DATE.plusDays(offsetDays);
+    // Position of a month within its lunar year: months after the leap month shift by one.
+    private static int monthSlot(int month, boolean isLeapMonth, int leap) {
+        if (isLeapMonth || (leap != 0 && month > leap)) {
+            return month;
+        }
+        return month - 1;
     }
 
-    private int yearDays(int year) {
-        int sum = 348;
-        int info = LUNAR_INFO[year - START_YEAR];
-        for (int mask = 0x8000; mask > 0x8; mask >>= 1) {
-            if ((info & mask) != 0) {
-                sum += 1;
+    private static long[] buildMonthStartEpochDays() {
+        int years = END_YEAR - START_YEAR + 1;
+        long[] starts = new long[years * MONTH_SLOTS_PER_YEAR + 1];
+        long epochDay = BASE_EPOCH_DAY;
+        for (int year = START_YEAR; year <= END_YEAR; year++) {
+            int base = (year - START_YEAR) * MONTH_SLOTS_PER_YEAR;
+            int leap = leapMonth(year);
+            int slot = 0;
+            for (int month = 1; month <= 12; month++) {
+                starts[base + slot++] = epochDay;
+                epochDay += monthDays(year, month);
+                if (month == leap) {
+                    starts[base + slot++] = epochDay;
+                    epochDay += leapDays(year);
+                }
+            }
+            if (slot < MONTH_SLOTS_PER_YEAR) {
+                starts[base + slot] = epochDay;
             }
         }
-        return sum + leapDays(year);
+        starts[starts.length - 1] = epochDay;
+        return starts;
     }
 
-    private int leapMonth(int year) {
+    private static int leapMonth(int year) {
         return LUNAR_INFO[year - START_YEAR] & 0xF;
     }
 
-    private int leapDays(int year) {
+    private static int leapDays(int year) {
         int leap = leapMonth(year);
         if (leap == 0) {
             return 0;
@@ -102,7 +149,10 @@ public class LunarDateConverter {
         return (LUNAR_INFO[year - START_YEAR] & 0x10000) != 0 ? 30 : 29;
     }
 
-    private int monthDays(int year, int month) {
+    private static int monthDays(int year, int month) {
         return (LUNAR_INFO[year - START_YEAR] & (0x10000 >> month)) != 0 ? 30 : 29;
     }
+
+    public record LunarDate(int year, int month, int day, boolean leapMonth) {
+    }
 }
@@ -2,15 +2,11 @@ package com.fortunelog.engine.domain;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 public class SajuCalculator {
 
-    private static final String[] STEMS = {"갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"};
-    private static final String[] BRANCHES = {"자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"};
-
     private static final int[] STEM_ELEMENTS = {
             0, 0, // 갑, 을 -> wood
             1, 1, // 병, 정 -> fire
@@ -36,138 +32,129 @@ public class SajuCalculator {
 
     // Calibrated against external manse-ryeok references:
     // 1984-01-31 (Gregorian) is a 갑자(甲子) day.
-    private static final LocalDate REFERENCE_GAPJA_DAY = LocalDate.of(1984, 1, 31);
+    private static final long REFERENCE_GAPJA_EPOCH_DAY = LocalDate.of(1984, 1, 31).toEpochDay();
+
+    // Month stem at 인월, by year stem mod 5: 갑/기 -> 병, 을/경 -> 무, 병/신 -> 경, 정/임 -> 임, 무/계 -> 갑
+    private static final int[] MONTH_STEM_START_AT_IN = {2, 4, 6, 8, 0};
+    // Hour stem at 자시, by day stem mod 5: 갑/기 -> 갑, 을/경 -> 병, 병/신 -> 무, 정/임 -> 경, 무/계 -> 임
+    private static final int[] HOUR_STEM_START_AT_JA = {0, 2, 4, 6, 8};
+
+    // Pillar derivation is pure table lookup:
+    // - MONTH_PILLARS[(yearCycle % 5) * 12 + monthOrder - 1] -> month 60-cycle index
+    // - HOUR_PILLARS[(dayCycle % 5) * 24 + hour] -> hour 60-cycle index
+    // - PILLAR_ELEMENTS[cycle] -> packed five-element increment for the pillar's stem and branch
+    private static final int[] MONTH_PILLARS = buildMonthPillars();
+    private static final int[] HOUR_PILLARS = buildHourPillars();
+    private static final long[] PILLAR_ELEMENTS = buildPillarElements();
+
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    // Computes and caches solar terms for the whole supported range so requests never pay for ephemeris math.
+    public static void preloadSolarTerms() {
+        SolarTermTable.preload();
+    }
 
     public SajuChart calculate(
             LocalDateTime birthDateTime,
             boolean unknownBirthTime
     ) {
-        Pillar year = calculateYearPillar(birthDateTime);
-        int monthOrder = monthOrderBySolarTerm(birthDateTime);
-        Pillar month = calculateMonthPillar(year.stemIndex(), monthOrder);
-        Pillar day = calculateDayPillar(birthDateTime.toLocalDate());
-        Pillar hour = unknownBirthTime ? null : calculateHourPillar(day.stemIndex(), birthDateTime.getHour());
-
-        Map<String, String> chart = new LinkedHashMap<>();
-        chart.put("year", formatPillar(year));
-        chart.put("month", formatPillar(month));
-        chart.put("day", formatPillar(day));
-        chart.put("hour", hour == null ? "미상" : formatPillar(hour));
-
-        Map<String, Integer> fiveElements = aggregateFiveElements(year, month, day, hour);
-
-        return new SajuChart(chart, fiveElements);
+        return new SajuChart(calculateCode(birthDateTime, unknownBirthTime));
     }
 
-    private Pillar calculateYearPillar(LocalDateTime birthDateTime) {
-        LocalDateTime ipchun = termDateTime(birthDateTime.getYear(), 2, 4, 10);
-        int year = birthDateTime.isBefore(ipchun) ? birthDateTime.getYear() - 1 : birthDateTime.getYear();
-
-        int baseYear = 1984; // 갑자년
-        int offset = Math.floorMod(year - baseYear, 60);
-        return new Pillar(offset % 10, offset % 12);
+    // Allocation-free variant of calculate(); see SajuChartCode for the layout.
+    public long calculateCode(
+            LocalDateTime birthDateTime,
+            boolean unknownBirthTime
+    ) {
+        int solarTermPosition = SolarTermTable.position(SolarTermTable.birthEpochMinute(birthDateTime));
+        int year = calculateYearPillar(SolarTermTable.sajuYear(solarTermPosition));
+        int month = calculateMonthPillar(year, SolarTermTable.monthOrder(solarTermPosition));
+        int day = calculateDayPillar(birthDateTime.toLocalDate());
+        int hour = unknownBirthTime
+                ? SajuChartCode.UNKNOWN_PILLAR
+                : calculateHourPillar(day, birthDateTime.getHour());
+
+        long code = SajuChartCode.of(year, month, day, hour)
+                + PILLAR_ELEMENTS[year]
+                + PILLAR_ELEMENTS[month]
+                + PILLAR_ELEMENTS[day];
+        return SajuChartCode.isKnown(hour) ? code + PILLAR_ELEMENTS[hour] : code;
     }
 
-    private Pillar calculateMonthPillar(int yearStemIndex, int monthOrderFromIn) {
-        int monthBranchIndex = Math.floorMod(2 + (monthOrderFromIn - 1), 12); // 인월 시작
-        int monthStemStartAtIn = switch (yearStemIndex) {
-            case 0, 5 -> 2; // 갑/기 -> 병
-            case 1, 6 -> 4; // 을/경 -> 무
-            case 2, 7 -> 6; // 병/신 -> 경
-            case 3, 8 -> 8; // 정/임 -> 임
-            case 4, 9 -> 0; // 무/계 -> 갑
-            default -> throw new IllegalStateException("invalid year stem index: " + yearStemIndex);
-        };
-
-        int monthStemIndex = Math.floorMod(monthStemStartAtIn + (monthOrderFromIn - 1), 10);
-        return new Pillar(monthStemIndex, monthBranchIndex);
+    // Batch variant for imports/migrations: codes[i] is calculateCode(birthDateTimes[i], unknownBirthTimes[i]).
+    // The calculator is stateless, so large batches are spread across the common fork-join pool.
+    public long[] calculateAll(LocalDateTime[] birthDateTimes, boolean[] unknownBirthTimes) {
+        if (birthDateTimes.length != unknownBirthTimes.length) {
+            throw new IllegalArgumentException("birthDateTimes and unknownBirthTimes must have the same length");
+        }
+        long[] codes = new long[birthDateTimes.length];
+        IntStream indices = IntStream.range(0, codes.length);
+        if (codes.length >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> codes[i] = calculateCode(birthDateTimes[i], unknownBirthTimes[i]));
+        return codes;
     }
 
-    private Pillar calculateDayPillar(LocalDate birthDate) {
-        long days = ChronoUnit.DAYS.between(REFERENCE_GAPJA_DAY, birthDate);
-        int cycleIndex = Math.floorMod((int) days, 60);
-        return new Pillar(cycleIndex % 10, cycleIndex % 12);
+    private int calculateYearPillar(int year) {
+        // year is the saju year, which already switches at 입춘 rather than January 1st.
+        return Math.floorMod(year - 1984, 60); // 1984 = 갑자년
     }
 
-    private Pillar calculateHourPillar(int dayStemIndex, int birthHour) {
-        int hourBranchIndex = Math.floorMod((birthHour + 1) / 2, 12);
-        int hourStemStartAtJa = switch (dayStemIndex) {
-            case 0, 5 -> 0; // 갑/기일 자시 시작 갑
-            case 1, 6 -> 2; // 을/경일 자시 시작 병
-            case 2, 7 -> 4; // 병/신일 자시 시작 무
-            case 3, 8 -> 6; // 정/임일 자시 시작 경
-            case 4, 9 -> 8; // 무/계일 자시 시작 임
-            default -> throw new IllegalStateException("invalid day stem index: " + dayStemIndex);
-        };
-
-        int hourStemIndex = Math.floorMod(hourStemStartAtJa + hourBranchIndex, 10);
-        return new Pillar(hourStemIndex, hourBranchIndex);
+    private int calculateMonthPillar(int yearCycleIndex, int monthOrderFromIn) {
+        return MONTH_PILLARS[(yearCycleIndex % 5) * 12 + monthOrderFromIn - 1];
     }
 
-    private int monthOrderBySolarTerm(LocalDateTime dateTime) {
-        int year = dateTime.getYear();
-
-        LocalDateTime ipchun = termDateTime(year, 2, 4, 10);
-        LocalDateTime gyeongchip = termDateTime(year, 3, 6, 5);
-        LocalDateTime cheongmyeong = termDateTime(year, 4, 5, 11);
-        LocalDateTime ibha = termDateTime(year, 5, 6, 4);
-        LocalDateTime mangjong = termDateTime(year, 6, 6, 6);
-        LocalDateTime soseo = termDateTime(year, 7, 7, 17);
-        LocalDateTime ibchu = termDateTime(year, 8, 8, 3);
-        LocalDateTime baengno = termDateTime(year, 9, 8, 5);
-        LocalDateTime hanro = termDateTime(year, 10, 8, 17);
-        LocalDateTime ibdong = termDateTime(year, 11, 7, 18);
-        LocalDateTime daeseol = termDateTime(year, 12, 7, 11);
-        LocalDateTime sohan = termDateTime(year, 1, 6, 6);
-
-        if (!dateTime.isBefore(ipchun) && dateTime.isBefore(gyeongchip)) return 1;   // 인
-        if (!dateTime.isBefore(gyeongchip) && dateTime.isBefore(cheongmyeong)) return 2; // 묘
-        if (!dateTime.isBefore(cheongmyeong) && dateTime.isBefore(ibha)) return 3; // 진
-        if (!dateTime.isBefore(ibha) && dateTime.isBefore(mangjong)) return 4; // 사
-        if (!dateTime.isBefore(mangjong) && dateTime.isBefore(soseo)) return 5; // 오
-        if (!dateTime.isBefore(soseo) && dateTime.isBefore(ibchu)) return 6; // 미
-        if (!dateTime.isBefore(ibchu) && dateTime.isBefore(baengno)) return 7; // 신
-        if (!dateTime.isBefore(baengno) && dateTime.isBefore(hanro)) return 8; // 유
-        if (!dateTime.isBefore(hanro) && dateTime.isBefore(ibdong)) return 9; // 술
-        if (!dateTime.isBefore(ibdong) && dateTime.isBefore(daeseol)) return 10; // 해
-        if (!dateTime.isBefore(daeseol) || dateTime.isBefore(sohan)) return 11; // 자
-        return 12; // 축 (1/6 ~ 2/3)
+    private int calculateDayPillar(LocalDate birthDate) {
+        return (int) Math.floorMod(birthDate.toEpochDay() - REFERENCE_GAPJA_EPOCH_DAY, 60L);
     }
 
-    private LocalDateTime termDateTime(int year, int month, int day, int hour) {
-        return LocalDateTime.of(year, month, day, hour, 0);
+    private int calculateHourPillar(int dayCycleIndex, int birthHour) {
+        return HOUR_PILLARS[(dayCycleIndex % 5) * 24 + birthHour];
     }
 
-    private Map<String, Integer> aggregateFiveElements(Pillar year, Pillar month, Pillar day, Pillar hour) {
-        int[] counts = new int[5];
-        addPillarElements(counts, year);
-        addPillarElements(counts, month);
-        addPillarElements(counts, day);
-        if (hour != null) {
-            addPillarElements(counts, hour);
+    private static int[] buildMonthPillars() {
+        int[] pillars = new int[5 * 12];
+        for (int yearStem = 0; yearStem < 5; yearStem++) {
+            for (int monthOrder = 1; monthOrder <= 12; monthOrder++) {
+                int branch = (monthOrder + 1) % 12; // 인월 시작
+                int stem = (MONTH_STEM_START_AT_IN[yearStem] + monthOrder - 1) % 10;
+                pillars[yearStem * 12 + monthOrder - 1] = SajuChartCode.cycleIndex(stem, branch);
+            }
         }
-
-        Map<String, Integer> result = new LinkedHashMap<>();
-        result.put("wood", counts[0]);
-        result.put("fire", counts[1]);
-        result.put("earth", counts[2]);
-        result.put("metal", counts[3]);
-        result.put("water", counts[4]);
-        return result;
+        return pillars;
     }
 
-    private void addPillarElements(int[] counts, Pillar pillar) {
-        counts[STEM_ELEMENTS[pillar.stemIndex()]] += 1;
-        counts[BRANCH_ELEMENTS[pillar.branchIndex()]] += 1;
+    private static int[] buildHourPillars() {
+        int[] pillars = new int[5 * 24];
+        for (int dayStem = 0; dayStem < 5; dayStem++) {
+            for (int hour = 0; hour < 24; hour++) {
+                int branch = ((hour + 1) / 2) % 12; // 23시는 자시
+                int stem = (HOUR_STEM_START_AT_JA[dayStem] + branch) % 10;
+                pillars[dayStem * 24 + hour] = SajuChartCode.cycleIndex(stem, branch);
+            }
+        }
+        return pillars;
     }
 
-    private String formatPillar(Pillar pillar) {
-        return STEMS[pillar.stemIndex()] + BRANCHES[pillar.branchIndex()];
+    private static long[] buildPillarElements() {
+        long[] increments = new long[60];
+        for (int cycleIndex = 0; cycleIndex < 60; cycleIndex++) {
+            long code = SajuChartCode.addElement(0L, STEM_ELEMENTS[SajuChartCode.stemIndex(cycleIndex)]);
+            increments[cycleIndex] = SajuChartCode.addElement(code, BRANCH_ELEMENTS[SajuChartCode.branchIndex(cycleIndex)]);
+        }
+        return increments;
     }
 
-    public record SajuChart(Map<String, String> chart, Map<String, Integer> fiveElements) {
-    }
+    // Wraps the packed code; map views are built on demand for the API/persistence boundary.
+    public record SajuChart(long code) {
+
+        public Map<String, String> chart() {
+            return SajuChartCode.toChartMap(code);
+        }
 
-    private record Pillar(int stemIndex, int branchIndex) {
+        public Map<String, Integer> fiveElements() {
+            return SajuChartCode.toFiveElementsMap(code);
+        }
     }
 }
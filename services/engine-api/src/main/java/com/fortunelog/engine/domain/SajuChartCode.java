@@ -0,0 +1,169 @@
+package com.fortunelog.engine.domain;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// A calculated chart packed into a single long so the domain layer can pass charts around without allocating:
+//   bits  0-23  year, month, day, hour pillars as 60-cycle (육십갑자) indices, 6 bits each (hour = 63 when unknown)
+//   bits 24-43  wood, fire, earth, metal, water counts, 4 bits each
+// Map/JSON shapes are produced only at the API and persistence boundary via toChartMap()/toFiveElementsMap().
+public final class SajuChartCode {
+
+    public static final int YEAR = 0;
+    public static final int MONTH = 1;
+    public static final int DAY = 2;
+    public static final int HOUR = 3;
+    public static final int UNKNOWN_PILLAR = 63;
+
+    public static final int WOOD = 0;
+    public static final int FIRE = 1;
+    public static final int EARTH = 2;
+    public static final int METAL = 3;
+    public static final int WATER = 4;
+    public static final int ELEMENT_COUNT = 5;
+
+    private static final int PILLAR_BITS = 6;
+    private static final int COUNT_BITS = 4;
+    private static final int COUNTS_SHIFT = 4 * PILLAR_BITS;
+    private static final long PILLAR_MASK = (1L << PILLAR_BITS) - 1;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final String UNKNOWN_PILLAR_NAME = "미상";
+    private static final String[] STEMS = {"갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"};
+    private static final String[] BRANCHES = {"자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"};
+    private static final String[] PILLAR_KEYS = {"year", "month", "day", "hour"};
+    // Interned 60 gapja names by cycle index, so pillar names never need string building.
+    private static final String[] GAPJA = buildGapja();
+    private static final Map<String, Integer> CYCLE_INDEX_BY_NAME = buildCycleIndexByName();
+
+    private SajuChartCode() {
+    }
+
+    public static long of(int yearCycle, int monthCycle, int dayCycle, int hourCycle) {
+        return (yearCycle & PILLAR_MASK)
+                | (monthCycle & PILLAR_MASK) << PILLAR_BITS
+                | (dayCycle & PILLAR_MASK) << (2 * PILLAR_BITS)
+                | (hourCycle & PILLAR_MASK) << (3 * PILLAR_BITS);
+    }
+
+    public static long withElementCount(long code, int element, int count) {
+        int shift = COUNTS_SHIFT + element * COUNT_BITS;
+        long clamped = Math.max(0, Math.min(count, (int) COUNT_MASK));
+        return (code & ~(COUNT_MASK << shift)) | clamped << shift;
+    }
+
+    public static long addElement(long code, int element) {
+        return code + (1L << (COUNTS_SHIFT + element * COUNT_BITS));
+    }
+
+    public static int pillar(long code, int position) {
+        return (int) ((code >>> (position * PILLAR_BITS)) & PILLAR_MASK);
+    }
+
+    public static boolean isKnown(int cycleIndex) {
+        return cycleIndex != UNKNOWN_PILLAR;
+    }
+
+    public static int stemIndex(int cycleIndex) {
+        return cycleIndex % 10;
+    }
+
+    public static int branchIndex(int cycleIndex) {
+        return cycleIndex % 12;
+    }
+
+    // 60-cycle index of the (stem, branch) pair; only pairs with matching parity exist.
+    public static int cycleIndex(int stemIndex, int branchIndex) {
+        return Math.floorMod(6 * stemIndex - 5 * branchIndex, 60);
+    }
+
+    public static int elementCount(long code, int element) {
+        return (int) ((code >>> (COUNTS_SHIFT + element * COUNT_BITS)) & COUNT_MASK);
+    }
+
+    // Element with the highest count; ties resolve to the earlier element (wood, fire, earth, metal, water).
+    public static int dominantElement(long code) {
+        int dominant = WOOD;
+        int max = elementCount(code, WOOD);
+        for (int element = FIRE; element < ELEMENT_COUNT; element++) {
+            int count = elementCount(code, element);
+            if (count > max) {
+                max = count;
+                dominant = element;
+            }
+        }
+        return dominant;
+    }
+
+    // Element with the lowest count; ties resolve to the earlier element (wood, fire, earth, metal, water).
+    public static int weakestElement(long code) {
+        int weak = WOOD;
+        int min = elementCount(code, WOOD);
+        for (int element = FIRE; element < ELEMENT_COUNT; element++) {
+            int count = elementCount(code, element);
+            if (count < min) {
+                min = count;
+                weak = element;
+            }
+        }
+        return weak;
+    }
+
+    public static String pillarName(long code, int position) {
+        int cycleIndex = pillar(code, position);
+        if (!isKnown(cycleIndex)) {
+            return UNKNOWN_PILLAR_NAME;
+        }
+        return GAPJA[cycleIndex];
+    }
+
+    public static Map<String, String> toChartMap(long code) {
+        Map<String, String> chart = new LinkedHashMap<>();
+        for (int position = YEAR; position <= HOUR; position++) {
+            chart.put(PILLAR_KEYS[position], pillarName(code, position));
+        }
+        return chart;
+    }
+
+    public static Map<String, Integer> toFiveElementsMap(long code) {
+        Map<String, Integer> fiveElements = new LinkedHashMap<>();
+        for (int element = 0; element < ELEMENT_COUNT; element++) {
+            fiveElements.put(FiveElement.of(element).key(), elementCount(code, element));
+        }
+        return fiveElements;
+    }
+
+    // Parses the stored chart_json/five_elements_json shape back into a code.
+    // Missing or unrecognized pillars become UNKNOWN_PILLAR; missing counts become 0.
+    public static long fromMaps(Map<String, String> chart, Map<String, Integer> fiveElements) {
+        long code = 0L;
+        for (int position = YEAR; position <= HOUR; position++) {
+            String name = chart == null ? null : chart.get(PILLAR_KEYS[position]);
+            Integer cycleIndex = name == null ? null : CYCLE_INDEX_BY_NAME.get(name.trim());
+            int value = cycleIndex == null ? UNKNOWN_PILLAR : cycleIndex;
+            code |= (value & PILLAR_MASK) << (position * PILLAR_BITS);
+        }
+        for (int element = 0; element < ELEMENT_COUNT; element++) {
+            Integer count = fiveElements == null ? null : fiveElements.get(FiveElement.of(element).key());
+            code = withElementCount(code, element, count == null ? 0 : count);
+        }
+        return code;
+    }
+
+    private static String[] buildGapja() {
+        String[] names = new String[60];
+        for (int cycleIndex = 0; cycleIndex < 60; cycleIndex++) {
+            names[cycleIndex] = (STEMS[stemIndex(cycleIndex)] + BRANCHES[branchIndex(cycleIndex)]).intern();
+        }
+        return names;
+    }
+
+    private static Map<String, Integer> buildCycleIndexByName() {
+        Map<String, Integer> byName = new HashMap<>();
+        for (int cycleIndex = 0; cycleIndex < 60; cycleIndex++) {
+            byName.put(GAPJA[cycleIndex], cycleIndex);
+        }
+        return Map.copyOf(byName);
+    }
+}
@@ -0,0 +1,129 @@
+package com.fortunelog.engine.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// All 24 solar terms per year as fixed UTC+9 epoch minutes, computed once per year by SolarTermCalculator and
+// cached as immutable arrays for the supported range. Once a year is loaded, lookups are an array read plus
+// a binary search over 24 longs and allocate nothing.
+final class SolarTermTable {
+
+    static final int MIN_YEAR = 1900;
+    static final int MAX_YEAR = 2100;
+
+    static final int TERMS_PER_YEAR = 24;
+    private static final long MINUTES_PER_DAY = 24L * 60L;
+    private static final long FIXED_KST_OFFSET_MINUTES = 9L * 60L;
+
+    // Terms are ordered chronologically within a Gregorian year starting with 소한 (285°), 15° apart.
+    // Even indices are month-opening terms (절기): index 0 (소한) opens 축월 of the previous saju year and
+    // index 2k (k >= 1) opens month order k (입춘 -> 인월 = 1).
+    private static final double FIRST_TERM_LONGITUDE = 285.0;
+    private static final double DAYS_PER_TERM = 365.242189 / TERMS_PER_YEAR;
+    private static final int FIRST_TERM_APPROX_DAY_OF_YEAR = 5; // 소한 falls on January 5-7
+
+    private static final long[] YEAR_START_EPOCH_DAYS = buildYearStarts();
+    private static final AtomicReferenceArray<long[]> TERMS_BY_YEAR =
+            new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1);
+
+    private SolarTermTable() {
+    }
+
+    static void preload() {
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            termsOf(year);
+        }
+    }
+
+    static long epochMinute(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+                + dateTime.getHour() * 60L
+                + dateTime.getMinute();
+    }
+
+    // Birth times are Asia/Seoul wall-clock times (+08:30 before 1961, DST in 1948-1960 and 1987-1988) while the
+    // terms are fixed UTC+9, so the wall time is resolved to its instant first and then read at UTC+9.
+    static long birthEpochMinute(LocalDateTime kstDateTime) {
+        return Math.floorDiv(TimeZoneNormalizer.kstEpochSecond(kstDateTime), 60L) + FIXED_KST_OFFSET_MINUTES;
+    }
+
+    // Saju year and month order (1 = 인월 ... 12 = 축월) containing the fixed UTC+9 epoch minute,
+    // packed as (sajuYear << 4) | monthOrder. Unpack with sajuYear()/monthOrder().
+    static int position(long epochMinute) {
+        int year = gregorianYear(Math.floorDiv(epochMinute, MINUTES_PER_DAY));
+        long[] terms = termsOf(year);
+        if (epochMinute < terms[0]) {
+            return ((year - 1) << 4) | 11; // still in 자월 that opened at the previous year's 대설
+        }
+        int monthTerm = floorIndex(terms, epochMinute) >> 1;
+        if (monthTerm == 0) {
+            return ((year - 1) << 4) | 12;
+        }
+        return (year << 4) | monthTerm;
+    }
+
+    static int sajuYear(int position) {
+        return position >> 4;
+    }
+
+    static int monthOrder(int position) {
+        return position & 0xF;
+    }
+
+    static long[] termsOf(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return computeYear(year);
+        }
+        long[] terms = TERMS_BY_YEAR.get(year - MIN_YEAR);
+        if (terms == null) {
+            terms = computeYear(year);
+            TERMS_BY_YEAR.compareAndSet(year - MIN_YEAR, null, terms);
+        }
+        return terms;
+    }
+
+    private static int gregorianYear(long epochDay) {
+        if (epochDay < YEAR_START_EPOCH_DAYS[0] || epochDay >= YEAR_START_EPOCH_DAYS[YEAR_START_EPOCH_DAYS.length - 1]) {
+            return LocalDate.ofEpochDay(epochDay).getYear();
+        }
+        int index = (int) ((epochDay - YEAR_START_EPOCH_DAYS[0]) / 366);
+        while (YEAR_START_EPOCH_DAYS[index + 1] <= epochDay) {
+            index++;
+        }
+        return MIN_YEAR + index;
+    }
+
+    // Largest index i with values[i] <= key; callers guarantee values[0] <= key.
+    private static int floorIndex(long[] values, long key) {
+        int low = 0;
+        int high = values.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (values[mid] <= key) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static long[] computeYear(int year) {
+        long approx = (LocalDate.of(year, 1, 1).toEpochDay() + FIRST_TERM_APPROX_DAY_OF_YEAR) * MINUTES_PER_DAY;
+        long[] terms = new long[TERMS_PER_YEAR];
+        for (int k = 0; k < TERMS_PER_YEAR; k++) {
+            double longitude = (FIRST_TERM_LONGITUDE + 15.0 * k) % 360.0;
+            terms[k] = SolarTermCalculator.kstEpochMinute(longitude, approx + Math.round(k * DAYS_PER_TERM * MINUTES_PER_DAY));
+        }
+        return terms;
+    }
+
+    private static long[] buildYearStarts() {
+        long[] starts = new long[MAX_YEAR - MIN_YEAR + 2];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = LocalDate.of(MIN_YEAR + i, 1, 1).toEpochDay();
+        }
+        return starts;
+    }
+}
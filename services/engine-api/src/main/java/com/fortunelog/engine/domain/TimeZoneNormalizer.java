@@ -0,0 +1,127 @@
+package com.fortunelog.engine.domain;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Converts a birth wall-clock time in any zone to Korean wall-clock time (Asia/Seoul, including the historical
+// +08:30 offset and the 1948-1960 / 1987-1988 DST periods).
+// Each zone's offset transitions between 1850 and 2100 are flattened once into sorted arrays, so a conversion
+// is two binary searches; times outside that range fall back to ZonedDateTime.
+public final class TimeZoneNormalizer {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final long TABLE_START_EPOCH_SECOND = LocalDateTime.of(1850, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long TABLE_END_EPOCH_SECOND = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    // Zone ids come from requests; valid region ids are a small fixed set, but offset ids are open-ended.
+    private static final int MAX_CACHED_ZONES = 1024;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final ZoneTable KST_TABLE = ZoneTable.build(KST);
+
+    private final Map<String, ZoneTable> zoneTables = new ConcurrentHashMap<>();
+    private final ZoneTable kstTable = KST_TABLE;
+
+    // Throws DateTimeException for unknown zone ids, like ZoneId.of.
+    public LocalDateTime toKst(LocalDateTime localDateTime, String zoneId) {
+        ZoneTable source = zoneTable(zoneId);
+        long localSecond = localDateTime.toLocalDate().toEpochDay() * SECONDS_PER_DAY + localDateTime.toLocalTime().toSecondOfDay();
+        if (localSecond < TABLE_START_EPOCH_SECOND || localSecond >= TABLE_END_EPOCH_SECOND) {
+            return localDateTime.atZone(source.zone()).withZoneSameInstant(KST).toLocalDateTime();
+        }
+        long instant = localSecond - source.offsetForLocal(localSecond);
+        long kstSecond = instant + kstTable.offsetForInstant(instant);
+        return LocalDateTime.ofEpochSecond(kstSecond, localDateTime.getNano(), ZoneOffset.UTC);
+    }
+
+    // Epoch second of a Korean wall-clock time as produced by toKst (gaps and overlaps resolve like ZonedDateTime.of).
+    static long kstEpochSecond(LocalDateTime kstDateTime) {
+        long localSecond = kstDateTime.toLocalDate().toEpochDay() * SECONDS_PER_DAY + kstDateTime.toLocalTime().toSecondOfDay();
+        if (localSecond < TABLE_START_EPOCH_SECOND || localSecond >= TABLE_END_EPOCH_SECOND) {
+            return kstDateTime.atZone(KST).toEpochSecond();
+        }
+        return localSecond - KST_TABLE.offsetForLocal(localSecond);
+    }
+
+    private ZoneTable zoneTable(String zoneId) {
+        ZoneTable table = zoneTables.get(zoneId);
+        if (table != null) {
+            return table;
+        }
+        table = KST.getId().equals(zoneId) ? kstTable : ZoneTable.build(ZoneId.of(zoneId));
+        if (zoneTables.size() < MAX_CACHED_ZONES) {
+            zoneTables.putIfAbsent(zoneId, table);
+        }
+        return table;
+    }
+
+    // For transition i: instants[i] is when it happens and offsets[i + 1] is the offset from then on
+    // (offsets[0] applies before the first transition).
+    // localKeys[i] = instant + max(before, after) is the first local time that resolves to the new offset:
+    // local times in a gap or an overlap keep the earlier offset, matching ZonedDateTime.of.
+    private record ZoneTable(ZoneId zone, long[] instants, long[] localKeys, int[] offsets) {
+
+        static ZoneTable build(ZoneId zone) {
+            ZoneRules rules = zone.getRules();
+            int capacity = 64;
+            long[] instants = new long[capacity];
+            long[] localKeys = new long[capacity];
+            int[] offsets = new int[capacity + 1];
+
+            Instant cursor = Instant.ofEpochSecond(TABLE_START_EPOCH_SECOND - SECONDS_PER_DAY);
+            offsets[0] = rules.getOffset(cursor).getTotalSeconds();
+            int count = 0;
+            ZoneOffsetTransition transition = rules.nextTransition(cursor);
+            while (transition != null && transition.toEpochSecond() < TABLE_END_EPOCH_SECOND + SECONDS_PER_DAY) {
+                if (count == capacity) {
+                    capacity *= 2;
+                    instants = Arrays.copyOf(instants, capacity);
+                    localKeys = Arrays.copyOf(localKeys, capacity);
+                    offsets = Arrays.copyOf(offsets, capacity + 1);
+                }
+                int before = transition.getOffsetBefore().getTotalSeconds();
+                int after = transition.getOffsetAfter().getTotalSeconds();
+                instants[count] = transition.toEpochSecond();
+                localKeys[count] = transition.toEpochSecond() + Math.max(before, after);
+                offsets[count + 1] = after;
+                count++;
+                transition = rules.nextTransition(transition.getInstant());
+            }
+            return new ZoneTable(
+                    zone,
+                    Arrays.copyOf(instants, count),
+                    Arrays.copyOf(localKeys, count),
+                    Arrays.copyOf(offsets, count + 1)
+            );
+        }
+
+        int offsetForLocal(long localSecond) {
+            return offsets[countAtOrBelow(localKeys, localSecond)];
+        }
+
+        int offsetForInstant(long epochSecond) {
+            return offsets[countAtOrBelow(instants, epochSecond)];
+        }
+
+        // Number of leading values <= key.
+        private static int countAtOrBelow(long[] values, long key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fortunelog.engine.domain.model;
+
+import java.util.List;
+
+public record BatchChartResult(
+        String engineVersion,
+        int succeeded,
+        int failed,
+        List<Item> items
+) {
+
+    // One entry per request item, in request order; either chart or errorCode/errorMessage is set.
+    public record Item(
+            int index,
+            String birthProfileId,
+            ChartResult chart,
+            String errorCode,
+            String errorMessage
+    ) {
+
+        public static Item success(int index, String birthProfileId, ChartResult chart) {
+            return new Item(index, birthProfileId, chart, null, null);
+        }
+
+        public static Item failure(int index, String birthProfileId, String errorCode, String errorMessage) {
+            return new Item(index, birthProfileId, null, errorCode, errorMessage);
+        }
+    }
+}
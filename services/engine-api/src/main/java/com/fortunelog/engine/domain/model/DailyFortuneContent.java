@@ -0,0 +1,26 @@
+package com.fortunelog.engine.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+// Shape stored in reports.content_json for report_type 'daily' and returned per day by the fortune endpoints.
+public record DailyFortuneContent(
+        String date,
+        int score,
+        String summary,
+        Map<String, String> category,
+        Map<String, DailyCategoryDetail> categoryDetails,
+        List<String> actions
+) {
+
+    public static DailyFortuneContent of(DailyFortuneResult result) {
+        return new DailyFortuneContent(
+                result.date().toString(),
+                result.score(),
+                result.summary(),
+                result.category(),
+                result.categoryDetails(),
+                result.actions()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.fortunelog.engine.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record DailyFortuneRangeResult(
+        String chartId,
+        LocalDate from,
+        LocalDate to,
+        List<DailyFortuneResult> days
+) {
+}
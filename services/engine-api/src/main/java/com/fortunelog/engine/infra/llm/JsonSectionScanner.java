@@ -0,0 +1,94 @@
+package com.fortunelog.engine.infra.llm;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Scans a streamed top-level JSON object chunk by chunk and returns each member as soon as its value is complete
+// (the ',' or closing '}' after it has arrived). Text outside the top-level object is ignored.
+final class JsonSectionScanner {
+
+    private final ObjectMapper objectMapper;
+    private final StringBuilder text = new StringBuilder();
+    private int position;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int memberStart = -1;
+
+    JsonSectionScanner(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    List<Map.Entry<String, Object>> append(String chunk) {
+        text.append(chunk);
+        List<Map.Entry<String, Object>> sections = new ArrayList<>();
+        for (; position < text.length(); position++) {
+            char c = text.charAt(position);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> inString = true;
+                case '{', '[' -> {
+                    depth++;
+                    if (depth == 1) {
+                        memberStart = position + 1;
+                    }
+                }
+                case '}', ']' -> {
+                    if (depth == 1) {
+                        parseMember(memberStart, position, sections);
+                    }
+                    depth = Math.max(depth - 1, 0);
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        parseMember(memberStart, position, sections);
+                        memberStart = position + 1;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return sections;
+    }
+
+    String text() {
+        return text.toString();
+    }
+
+    private void parseMember(int start, int end, List<Map.Entry<String, Object>> sections) {
+        if (start < 0) {
+            return;
+        }
+        String member = text.substring(start, end).trim();
+        if (member.isEmpty()) {
+            return;
+        }
+        try {
+            JsonNode node = objectMapper.readTree("{" + member + "}");
+            node.fields().forEachRemaining(field -> sections.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                            field.getKey(),
+                            objectMapper.convertValue(field.getValue(), Object.class)
+                    )
+            ));
+        } catch (JsonProcessingException ignored) {
+            // Not forwarded; the final parse of the whole text decides whether the response is usable.
+        }
+    }
+}
@@ -4,30 +4,94 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortunelog.engine.common.AimdLimiter;
 import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.common.CircuitBreaker;
+import com.fortunelog.engine.common.HedgingPolicy;
+import com.fortunelog.engine.domain.FiveElement;
+import com.fortunelog.engine.domain.FiveElementCounts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 @Service
 public class OpenAiAnalysisClient {
 
     private static final Logger log = LoggerFactory.getLogger(OpenAiAnalysisClient.class);
+    // Bump when the prompt or response schema changes so stored interpretations are regenerated.
+    public static final String PROMPT_VERSION = "saju-v2";
+    // Top-level fields of the interpretation schema, in response order.
+    public static final List<String> SECTIONS = List.of(
+            "summary",
+            "coreTraits",
+            "strengths",
+            "cautions",
+            "themes",
+            "actionTips",
+            "disclaimer"
+    );
+    // Static instructions, sent as the leading system message so every request starts with the same bytes (provider-side
+    // prompt prefix caching); only the per-chart user message differs between requests.
+    private static final String SYSTEM_INSTRUCTIONS = """
+            [시스템 가이드: FortuneLog]
+            1. 본 분석은 'FortuneLog'의 정밀한 로직으로 산출된 데이터를 바탕으로 합니다.
+            2. 제공된 사주 정보는 검증된 값이므로 다시 계산하지 말고, 이 데이터를 절대적 기준으로 해석하십시오.
+            3. 답변 시작 시 'FortuneLog'앱의 데이터를 바탕으로 해석함을 가볍게 언급하며, 전문가의 품격에 맞는 존댓말로 답변해 주십시오.
+
+            [질문 사항]
+            사용자가 전달하는 [사주 정보]를 바탕으로 명리학 전문가의 관점에서 다음 사항을 상세히 분석해 주십시오.
+            1. 일간과 일주를 중심으로 본연의 기질과 중심 성격을 설명해 주십시오.
+            2. 월지에 배정된 기운과 전체적인 십성의 흐름을 바탕으로, 이 사주가 사회에서 어떤 환경에 놓이기 쉬우며 어떤 방식으로 역량을 발휘하는지 분석해 주십시오.
+            3. 주어진 십성 구성에서 나타나는 특징적인 장단점과 그에 따른 인생 흐름의 특성을 분석해 주십시오.
+            4. 제공된 오행 분포 수치를 절대적 기준으로 삼아, 부족하거나 과한 기운을 조절할 수 있는 실생활의 보완책(색상, 습관 등)을 제안해 주십시오.
+            5. 재물운, 연애·결혼운, 직업 적성, 건강운 등 주요 영역을 주어진 데이터를 근거로 종합 해석해 주십시오.
+            6. 전체적인 사주 구성의 균형을 맞추기 위해 이 사주가 지향해야 할 삶의 태도와 핵심적인 조언을 들려주십시오.
+            """;
+    // Stands in for the user message while the request templates are serialized.
+    private static final String CHART_SECTION_PLACEHOLDER = "\u0000chart-section\u0000";
+    // Recent primary latencies the hedge delay percentile is taken from.
+    private static final int HEDGE_LATENCY_WINDOW = 200;
     private static final String AI_PARSE_ERROR_MESSAGE = "AI 해석 결과를 읽지 못했습니다. 잠시 후 다시 시도해주세요.";
 
     private final ObjectMapper objectMapper;
@@ -36,13 +100,160 @@ public class OpenAiAnalysisClient {
     private final String model;
     private final String apiBaseUrl;
     private final Duration requestTimeout;
+    private final RequestTemplate requestTemplate;
+    private final RequestTemplate conciseRequestTemplate;
+    private final RequestTemplate streamRequestTemplate;
+    // SHA-256 state after PROMPT_VERSION, model and SYSTEM_INSTRUCTIONS; cloned per signature.
+    private final MessageDigest signaturePrefix;
+    private final AimdLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final boolean fallbackOnOverload;
+    private final Counter overloadCounter;
+    private final HedgingPolicy hedgingPolicy;
+    private final boolean conciseHedge;
+    private final ExecutorService hedgeExecutor;
+    private final Counter hedgeFiredCounter;
+    private final Counter hedgeWonCounter;
+    private final Counter hedgeBudgetExhaustedCounter;
+
+    public OpenAiAnalysisClient(
+            ObjectMapper objectMapper,
+            String apiKey,
+            String model,
+            String apiBaseUrl,
+            long requestTimeoutMs
+    ) {
+        this(objectMapper, new SimpleMeterRegistry(), apiKey, model, apiBaseUrl, requestTimeoutMs);
+    }
+
+    private OpenAiAnalysisClient(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            String apiKey,
+            String model,
+            String apiBaseUrl,
+            long requestTimeoutMs
+    ) {
+        this(
+                objectMapper,
+                apiKey,
+                model,
+                apiBaseUrl,
+                requestTimeoutMs,
+                new AimdLimiter(8, 1, 32, 16, Duration.ofSeconds(2), Duration.ofSeconds(20)),
+                new CircuitBreaker(meterRegistry, "openai", 20, 10, 50, Duration.ofSeconds(30), 2),
+                true,
+                meterRegistry
+        );
+    }
 
+    @Autowired
     public OpenAiAnalysisClient(
             ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
             @Value("${app.openai.api-key:${OPENAI_API_KEY:}}") String apiKey,
             @Value("${app.openai.model:${OPENAI_MODEL:gpt-5-mini}}") String model,
             @Value("${app.openai.api-base-url:${OPENAI_API_BASE_URL:https://api.openai.com}}") String apiBaseUrl,
-            @Value("${app.openai.request-timeout-ms:${OPENAI_REQUEST_TIMEOUT_MS:60000}}") long requestTimeoutMs
+            @Value("${app.openai.request-timeout-ms:${OPENAI_REQUEST_TIMEOUT_MS:60000}}") long requestTimeoutMs,
+            @Value("${app.openai.limiter.initial-limit:8}") int initialLimit,
+            @Value("${app.openai.limiter.min-limit:1}") int minLimit,
+            @Value("${app.openai.limiter.max-limit:32}") int maxLimit,
+            @Value("${app.openai.limiter.max-queue:16}") int maxQueue,
+            @Value("${app.openai.limiter.max-wait-ms:2000}") long maxWaitMs,
+            @Value("${app.openai.limiter.latency-threshold-ms:20000}") long latencyThresholdMs,
+            @Value("${app.openai.limiter.fallback-on-overload:true}") boolean fallbackOnOverload,
+            @Value("${app.openai.circuit-breaker.window-size:20}") int breakerWindowSize,
+            @Value("${app.openai.circuit-breaker.minimum-calls:10}") int breakerMinimumCalls,
+            @Value("${app.openai.circuit-breaker.failure-rate-percent:50}") int breakerFailureRatePercent,
+            @Value("${app.openai.circuit-breaker.open-duration-ms:30000}") long breakerOpenDurationMs,
+            @Value("${app.openai.circuit-breaker.half-open-probes:2}") int breakerHalfOpenProbes,
+            @Value("${app.openai.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${app.openai.hedging.percentile:90}") int hedgePercentile,
+            @Value("${app.openai.hedging.min-samples:20}") int hedgeMinSamples,
+            @Value("${app.openai.hedging.min-delay-ms:1000}") long hedgeMinDelayMs,
+            @Value("${app.openai.hedging.max-hedges-per-minute:30}") int maxHedgesPerMinute,
+            @Value("${app.openai.hedging.concise-prompt:true}") boolean conciseHedge
+    ) {
+        this(
+                objectMapper,
+                apiKey,
+                model,
+                apiBaseUrl,
+                requestTimeoutMs,
+                new AimdLimiter(
+                        initialLimit,
+                        minLimit,
+                        maxLimit,
+                        maxQueue,
+                        Duration.ofMillis(maxWaitMs),
+                        Duration.ofMillis(latencyThresholdMs)
+                ),
+                new CircuitBreaker(
+                        meterRegistry,
+                        "openai",
+                        breakerWindowSize,
+                        breakerMinimumCalls,
+                        breakerFailureRatePercent,
+                        Duration.ofMillis(breakerOpenDurationMs),
+                        breakerHalfOpenProbes
+                ),
+                fallbackOnOverload,
+                meterRegistry,
+                hedgingEnabled
+                        ? new HedgingPolicy(
+                                hedgePercentile,
+                                HEDGE_LATENCY_WINDOW,
+                                hedgeMinSamples,
+                                Duration.ofMillis(hedgeMinDelayMs),
+                                maxHedgesPerMinute
+                        )
+                        : null,
+                conciseHedge
+        );
+    }
+
+    // Overloaded calls (no permit within max-wait) get the deterministic fallback, or 429 AI_OVERLOADED when
+    // fallbackOnOverload is off. While the circuit breaker is open, calls always get the fallback.
+    OpenAiAnalysisClient(
+            ObjectMapper objectMapper,
+            String apiKey,
+            String model,
+            String apiBaseUrl,
+            long requestTimeoutMs,
+            AimdLimiter limiter,
+            CircuitBreaker circuitBreaker,
+            boolean fallbackOnOverload,
+            MeterRegistry meterRegistry
+    ) {
+        this(
+                objectMapper,
+                apiKey,
+                model,
+                apiBaseUrl,
+                requestTimeoutMs,
+                limiter,
+                circuitBreaker,
+                fallbackOnOverload,
+                meterRegistry,
+                null,
+                false
+        );
+    }
+
+    // With a hedging policy, blocking interpretations send a second request (the concise prompt when conciseHedge is
+    // set) if the first has not answered within the policy's delay; the first valid answer wins. Streams are not hedged.
+    OpenAiAnalysisClient(
+            ObjectMapper objectMapper,
+            String apiKey,
+            String model,
+            String apiBaseUrl,
+            long requestTimeoutMs,
+            AimdLimiter limiter,
+            CircuitBreaker circuitBreaker,
+            boolean fallbackOnOverload,
+            MeterRegistry meterRegistry,
+            HedgingPolicy hedgingPolicy,
+            boolean conciseHedge
     ) {
         this.objectMapper = objectMapper;
         this.httpClient = HttpClient.newHttpClient();
@@ -50,26 +261,50 @@ public class OpenAiAnalysisClient {
         this.model = model == null || model.isBlank() ? "gpt-5-mini" : model.trim();
         this.apiBaseUrl = trimTrailingSlash(apiBaseUrl == null ? "" : apiBaseUrl.trim());
         this.requestTimeout = Duration.ofMillis(Math.max(requestTimeoutMs, 1000L));
+        this.requestTemplate = buildRequestTemplate(false, false);
+        this.conciseRequestTemplate = buildRequestTemplate(true, false);
+        this.streamRequestTemplate = buildRequestTemplate(false, true);
+        this.signaturePrefix = sha256();
+        signaturePrefix.update((PROMPT_VERSION + "\n" + this.model + "\n" + SYSTEM_INSTRUCTIONS + "\n").getBytes(StandardCharsets.UTF_8));
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+        this.fallbackOnOverload = fallbackOnOverload;
+        this.overloadCounter = Counter.builder("fortunelog.openai.limiter.rejected")
+                .description("LLM calls turned away by the concurrency limiter")
+                .register(meterRegistry);
+        Gauge.builder("fortunelog.openai.limiter.limit", limiter, AimdLimiter::limit)
+                .description("Current adaptive concurrency limit for LLM calls")
+                .register(meterRegistry);
+        Gauge.builder("fortunelog.openai.limiter.in_flight", limiter, AimdLimiter::inFlight)
+                .register(meterRegistry);
+        Gauge.builder("fortunelog.openai.limiter.waiting", limiter, AimdLimiter::waiting)
+                .register(meterRegistry);
+        this.hedgingPolicy = hedgingPolicy;
+        this.conciseHedge = conciseHedge;
+        this.hedgeExecutor = hedgingPolicy == null ? null : Executors.newVirtualThreadPerTaskExecutor();
+        this.hedgeFiredCounter = Counter.builder("fortunelog.openai.hedge.calls")
+                .tag("outcome", "fired")
+                .register(meterRegistry);
+        this.hedgeWonCounter = Counter.builder("fortunelog.openai.hedge.calls")
+                .tag("outcome", "won")
+                .register(meterRegistry);
+        this.hedgeBudgetExhaustedCounter = Counter.builder("fortunelog.openai.hedge.calls")
+                .tag("outcome", "budget_exhausted")
+                .register(meterRegistry);
     }
 
     public Map<String, Object> generateSajuInterpretation(Map<String, String> chart, Map<String, Integer> fiveElements) {
-        if (apiKey.isBlank()) {
-            throw new ApiClientException(
-                    "AI_CONFIG_MISSING",
-                    HttpStatus.SERVICE_UNAVAILABLE,
-                    "AI 해석 서비스 설정이 아직 완료되지 않았습니다."
-            );
-        }
-        if (apiBaseUrl.isBlank()) {
-            throw new ApiClientException(
-                    "AI_CONFIG_MISSING",
-                    HttpStatus.SERVICE_UNAVAILABLE,
-                    "AI 해석 서비스 설정이 아직 완료되지 않았습니다."
-            );
-        }
+        ensureConfigured();
 
         try {
-            CandidatePayload primary = callOpenAi(buildPrompt(chart, fiveElements, false), false);
+            String chartSection = buildChartSection(chart, fiveElements);
+            if (hedgingPolicy != null) {
+                return enrichResult(hedgedInterpretation(chartSection));
+            }
+            CandidatePayload primary = guardedCall(
+                    () -> callOpenAi(chartSection, false),
+                    (payload, elapsedNanos) -> elapsedNanos
+            );
             Map<String, Object> parsed = parseModelJson(primary.text());
             return enrichResult(parsed);
         } catch (ApiClientException ex) {
@@ -81,6 +316,66 @@ public class OpenAiAnalysisClient {
         }
     }
 
+    // Streaming variant: each schema section is passed to onSection as soon as the model has finished writing it.
+    // When the model fails or times out before any section went out, the deterministic fallback is returned and all of
+    // its sections are passed on. Once a model section has been forwarded the failure is thrown instead, so callers
+    // never receive sections from both sources.
+    public Map<String, Object> streamSajuInterpretation(
+            Map<String, String> chart,
+            Map<String, Integer> fiveElements,
+            BiConsumer<String, Object> onSection
+    ) {
+        ensureConfigured();
+
+        AtomicBoolean forwarded = new AtomicBoolean();
+        BiConsumer<String, Object> trackingOnSection = (name, value) -> {
+            forwarded.set(true);
+            onSection.accept(name, value);
+        };
+        try {
+            String chartSection = buildChartSection(chart, fiveElements);
+            // A long answer is not a sign of overload; the time to the first chunk is.
+            StreamedCompletion completion = guardedCall(
+                    () -> callOpenAiStreaming(chartSection, trackingOnSection),
+                    (streamed, elapsedNanos) -> streamed.firstChunkNanos()
+            );
+            return enrichResult(parseModelJson(completion.text()));
+        } catch (SectionConsumerException ex) {
+            // The caller could not take a section (e.g. the SSE client went away); not an AI failure, no fallback.
+            throw ex.getCause();
+        } catch (ApiClientException ex) {
+            if (isRecoverableAiFailure(ex.code()) && !forwarded.get()) {
+                log.warn("openai stream unavailable/invalid. falling back to deterministic interpretation. code={}", ex.code());
+                Map<String, Object> fallback = enrichFallbackResult(buildFallbackInterpretation(chart, fiveElements));
+                for (String section : SECTIONS) {
+                    if (fallback.containsKey(section)) {
+                        onSection.accept(section, fallback.get(section));
+                    }
+                }
+                return fallback;
+            }
+            throw ex;
+        }
+    }
+
+    // Identifies everything an interpretation depends on: prompt version, model, instructions and the rendered chart
+    // section (pillars, five elements and profile fields). Equal signatures mean an equivalent LLM request.
+    public String interpretationSignature(Map<String, String> chart, Map<String, Integer> fiveElements) {
+        MessageDigest digest;
+        try {
+            digest = (MessageDigest) signaturePrefix.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest not cloneable", e);
+        }
+        byte[] hash = digest.digest(buildChartSection(chart, fiveElements).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
+    }
+
+    // Request body rendering without the HTTP call.
+    byte[] renderRequestBody(Map<String, String> chart, Map<String, Integer> fiveElements, boolean conciseMode, boolean stream) {
+        return buildRequestBody(buildChartSection(chart, fiveElements), conciseMode, stream);
+    }
+
     private Map<String, Object> enrichResult(Map<String, Object> parsed) {
         parsed.put("model", model);
         parsed.put("generatedAt", Instant.now().toString());
@@ -98,15 +393,146 @@ public class OpenAiAnalysisClient {
     private boolean isRecoverableAiFailure(String code) {
         return "AI_GENERATION_FAILED".equals(code)
                 || "AI_GENERATION_TIMEOUT".equals(code)
-                || "AI_RESPONSE_INVALID".equals(code);
+                || "AI_RESPONSE_INVALID".equals(code)
+                || (fallbackOnOverload && "AI_OVERLOADED".equals(code))
+                || "AI_CIRCUIT_OPEN".equals(code);
+    }
+
+    // Runs one chat completion call behind the circuit breaker (app.openai.circuit-breaker.*) and the concurrency
+    // limiter (app.openai.limiter.*), failing fast instead of paying for a call that is likely to fail or queue.
+    private <T> T guardedCall(Supplier<T> call, LatencySample<T> latency) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ApiClientException(
+                    "AI_CIRCUIT_OPEN",
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "AI 해석 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."
+            );
+        }
+        AimdLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            circuitBreaker.onIgnored();
+            overloadCounter.increment();
+            log.warn("openai concurrency limit reached: limit={} inFlight={}", (int) limiter.limit(), limiter.inFlight());
+            throw new ApiClientException(
+                    "AI_OVERLOADED",
+                    HttpStatus.TOO_MANY_REQUESTS,
+                    "AI 해석 요청이 많습니다. 잠시 후 다시 시도해주세요."
+            );
+        }
+
+        try {
+            long startedAt = System.nanoTime();
+            T result = call.get();
+            permit.succeeded(latency.nanos(result, System.nanoTime() - startedAt), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (ApiClientException e) {
+            // Timeouts and upstream errors count against the provider; an unparsable answer still means it responded.
+            // A cancelled call (the losing side of a hedge) says nothing either way.
+            if (Thread.currentThread().isInterrupted()) {
+                circuitBreaker.onIgnored();
+            } else if ("AI_GENERATION_TIMEOUT".equals(e.code()) || "AI_GENERATION_FAILED".equals(e.code())) {
+                permit.dropped();
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            throw e;
+        } catch (RuntimeException | Error e) {
+            // Includes SectionConsumerException: the call ended on our side, not the provider's.
+            circuitBreaker.onIgnored();
+            throw e;
+        } finally {
+            permit.close();
+        }
+    }
+
+    // Sends the primary request and, if it is still outstanding after the hedging policy's delay and the minute's
+    // budget allows it, a hedge. The first attempt to produce a parsable interpretation wins and the other is
+    // cancelled; if both fail, the last failure is thrown.
+    private Map<String, Object> hedgedInterpretation(String chartSection) {
+        CompletableFuture<HedgeAttempt> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        long primaryStartedAt = System.nanoTime();
+        Future<?> primary = hedgeExecutor.submit(() -> runAttempt(winner, pending, chartSection, false, false));
+        Future<?> hedge = null;
+        HedgeAttempt won;
+        try {
+            long delayNanos = hedgingPolicy.hedgeDelayNanos();
+            if (delayNanos >= 0) {
+                try {
+                    return winner.get(delayNanos, TimeUnit.NANOSECONDS).parsed();
+                } catch (TimeoutException e) {
+                    if (!hedgingPolicy.tryAcquireHedge()) {
+                        hedgeBudgetExhaustedCounter.increment();
+                    } else if (pending.getAndUpdate(count -> count == 0 ? 0 : count + 1) > 0) {
+                        // The primary has not failed in the meantime, so the hedge can still change the outcome.
+                        hedgeFiredCounter.increment();
+                        hedge = hedgeExecutor.submit(() -> runAttempt(winner, pending, chartSection, conciseHedge, true));
+                    }
+                }
+            }
+            won = winner.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiClientException(
+                    "AI_GENERATION_FAILED",
+                    HttpStatus.BAD_GATEWAY,
+                    "AI 해석 생성에 실패했습니다. 잠시 후 다시 시도해주세요."
+            );
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+        if (won.hedge()) {
+            hedgeWonCounter.increment();
+            // The cancelled primary took at least this long; leaving it out would drag the percentile (and with it
+            // the hedge delay) down towards the fast calls.
+            hedgingPolicy.recordLatency(System.nanoTime() - primaryStartedAt, TimeUnit.NANOSECONDS);
+        }
+        return won.parsed();
+    }
+
+    private void runAttempt(
+            CompletableFuture<HedgeAttempt> winner,
+            AtomicInteger pending,
+            String chartSection,
+            boolean conciseMode,
+            boolean isHedge
+    ) {
+        try {
+            long startedAt = System.nanoTime();
+            Map<String, Object> parsed = parseModelJson(
+                    guardedCall(() -> callOpenAi(chartSection, conciseMode), (payload, elapsedNanos) -> elapsedNanos).text()
+            );
+            if (!isHedge) {
+                hedgingPolicy.recordLatency(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            winner.complete(new HedgeAttempt(parsed, isHedge));
+        } catch (RuntimeException e) {
+            if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface LatencySample<T> {
+        long nanos(T result, long elapsedNanos);
     }
 
     private Map<String, Object> buildFallbackInterpretation(Map<String, String> chart, Map<String, Integer> fiveElements) {
         String day = valueOrDash(chart.get("day"));
-        String dominant = dominantElement(fiveElements);
-        String weak = weakestElement(fiveElements);
-        String dominantKo = elementKo(dominant);
-        String weakKo = elementKo(weak);
+        FiveElementCounts counts = FiveElementCounts.fromMap(fiveElements);
+        String dominantKo = counts.dominant().ko();
+        String weakKo = counts.weakest().ko();
 
         Map<String, Object> themes = Map.of(
                 "money", dominantKo + " 기운이 금전 감각을 살립니다. " + weakKo + " 기운 보완을 위해 지출 기준을 먼저 정해보세요.",
@@ -146,54 +572,30 @@ public class OpenAiAnalysisClient {
         ));
     }
 
-    private String dominantElement(Map<String, Integer> fiveElements) {
-        String dominant = "earth";
-        int max = Integer.MIN_VALUE;
-        for (var e : fiveElements.entrySet()) {
-            int value = e.getValue() == null ? 0 : e.getValue();
-            if (value > max) {
-                max = value;
-                dominant = e.getKey();
-            }
-        }
-        return dominant;
-    }
-
-    private String weakestElement(Map<String, Integer> fiveElements) {
-        String weak = "fire";
-        int min = Integer.MAX_VALUE;
-        for (var e : fiveElements.entrySet()) {
-            int value = e.getValue() == null ? 0 : e.getValue();
-            if (value < min) {
-                min = value;
-                weak = e.getKey();
-            }
+    private void ensureConfigured() {
+        if (apiKey.isBlank() || apiBaseUrl.isBlank()) {
+            throw new ApiClientException(
+                    "AI_CONFIG_MISSING",
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "AI 해석 서비스 설정이 아직 완료되지 않았습니다."
+            );
         }
-        return weak;
-    }
-
-    private String elementKo(String element) {
-        return switch (element) {
-            case "wood" -> "목";
-            case "fire" -> "화";
-            case "earth" -> "토";
-            case "metal" -> "금";
-            case "water" -> "수";
-            default -> "-";
-        };
     }
 
-    private CandidatePayload callOpenAi(String prompt, boolean conciseMode) {
-        String requestBody = buildRequestBody(prompt, conciseMode);
-        String path = "/v1/chat/completions";
-        URI uri = URI.create(apiBaseUrl + path);
-
-        HttpRequest request = HttpRequest.newBuilder(uri)
+    private HttpRequest chatCompletionRequest(URI uri, byte[] requestBody) {
+        return HttpRequest.newBuilder(uri)
                 .timeout(requestTimeout)
                 .header("Authorization", "Bearer " + apiKey)
                 .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody))
                 .build();
+    }
+
+    private CandidatePayload callOpenAi(String chartSection, boolean conciseMode) {
+        byte[] requestBody = buildRequestBody(chartSection, conciseMode, false);
+        String path = "/v1/chat/completions";
+        URI uri = URI.create(apiBaseUrl + path);
+        HttpRequest request = chatCompletionRequest(uri, requestBody);
 
         HttpResponse<String> response;
         long startedAt = System.currentTimeMillis();
@@ -244,75 +646,210 @@ public class OpenAiAnalysisClient {
         return extractCandidatePayload(response.body());
     }
 
-    private String buildRequestBody(String prompt, boolean conciseMode) {
-        Map<String, Object> payload = new LinkedHashMap<>();
-        payload.put("model", model);
-        payload.put("messages", List.of(
-                Map.of("role", "user", "content", prompt)
-        ));
-        payload.put("response_format", Map.of(
-                "type", "json_schema",
-                "json_schema", Map.of(
-                        "name", "saju_interpretation",
-                        "strict", true,
-                        "schema", buildResponseSchema()
-                )
-        ));
-        payload.put("max_completion_tokens", conciseMode ? 1800 : 3600);
+    // Reads the server-sent chat completion chunks and returns the assembled message text.
+    // HttpRequest.timeout only covers the response headers, so a watchdog closes the body at the overall deadline;
+    // that unblocks a read stalled on a provider that stopped sending mid-stream.
+    private StreamedCompletion callOpenAiStreaming(String chartSection, BiConsumer<String, Object> onSection) {
+        byte[] requestBody = buildRequestBody(chartSection, false, true);
+        URI uri = URI.create(apiBaseUrl + "/v1/chat/completions");
+        HttpRequest request = chatCompletionRequest(uri, requestBody);
+        long deadline = System.nanoTime() + requestTimeout.toNanos();
+        JsonSectionScanner scanner = new JsonSectionScanner(objectMapper);
+        long firstChunkNanos = -1;
 
+        long startedAt = System.currentTimeMillis();
+        long startedAtNanos = System.nanoTime();
         try {
-            return objectMapper.writeValueAsString(payload);
+            log.info("outgoing request: target=openai method=POST url={} model={} stream=true", uri, model);
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            InputStream body = response.body();
+            AtomicBoolean timedOut = new AtomicBoolean();
+            CompletableFuture<Void> watchdog = CompletableFuture.runAsync(
+                    () -> {
+                        timedOut.set(true);
+                        closeQuietly(body);
+                    },
+                    CompletableFuture.delayedExecutor(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+            );
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                    log.warn(
+                            "openai stream failed: url={} model={} status={}, body={}",
+                            uri,
+                            model,
+                            response.statusCode(),
+                            String.join("\n", reader.lines().toList())
+                    );
+                    throw new ApiClientException(
+                            "AI_GENERATION_FAILED",
+                            HttpStatus.BAD_GATEWAY,
+                            "AI 해석 생성에 실패했습니다. 잠시 후 다시 시도해주세요."
+                    );
+                }
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+                    String data = line.substring(5).trim();
+                    if (data.equals("[DONE]")) {
+                        break;
+                    }
+                    JsonNode delta = objectMapper.readTree(data).at("/choices/0/delta/content");
+                    if (delta.isTextual()) {
+                        if (firstChunkNanos < 0) {
+                            firstChunkNanos = System.nanoTime() - startedAtNanos;
+                        }
+                        for (Map.Entry<String, Object> section : scanner.append(delta.asText())) {
+                            try {
+                                onSection.accept(section.getKey(), section.getValue());
+                            } catch (RuntimeException e) {
+                                throw new SectionConsumerException(e);
+                            }
+                        }
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                if (timedOut.get()) {
+                    throw new HttpTimeoutException("stream exceeded " + requestTimeout.toMillis() + "ms");
+                }
+                throw e;
+            } finally {
+                watchdog.cancel(false);
+            }
+            if (timedOut.get()) {
+                throw new HttpTimeoutException("stream exceeded " + requestTimeout.toMillis() + "ms");
+            }
+            log.info(
+                    "outgoing response: target=openai method=POST url={} stream=true elapsedMs={} model={}",
+                    uri,
+                    System.currentTimeMillis() - startedAt,
+                    model
+            );
+        } catch (HttpTimeoutException e) {
+            log.warn("openai stream timeout: url={} model={} message={}", uri, model, e.getMessage());
+            throw new ApiClientException(
+                    "AI_GENERATION_TIMEOUT",
+                    HttpStatus.BAD_GATEWAY,
+                    "AI 해석 생성 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."
+            );
         } catch (JsonProcessingException e) {
+            throw new ApiClientException(
+                    "AI_RESPONSE_INVALID",
+                    HttpStatus.BAD_GATEWAY,
+                    AI_PARSE_ERROR_MESSAGE
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("openai stream interrupted: url={} model={} message={}", uri, model, e.getMessage());
+            throw new ApiClientException(
+                    "AI_GENERATION_FAILED",
+                    HttpStatus.BAD_GATEWAY,
+                    "AI 해석 생성에 실패했습니다. 잠시 후 다시 시도해주세요."
+            );
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("openai stream failed: url={} model={} message={}", uri, model, e.toString());
             throw new ApiClientException(
                     "AI_GENERATION_FAILED",
                     HttpStatus.BAD_GATEWAY,
                     "AI 해석 생성에 실패했습니다. 잠시 후 다시 시도해주세요."
             );
         }
+
+        String text = scanner.text();
+        if (text.isBlank()) {
+            throw new ApiClientException(
+                    "AI_RESPONSE_INVALID",
+                    HttpStatus.BAD_GATEWAY,
+                    AI_PARSE_ERROR_MESSAGE
+            );
+        }
+        return new StreamedCompletion(text, firstChunkNanos);
     }
 
-    private Map<String, Object> buildResponseSchema() {
-        Map<String, Object> stringArray = Map.of(
-                "type", "array",
-                "items", Map.of("type", "string")
-        );
-        Map<String, Object> themes = Map.of(
-                "type", "object",
-                "properties", Map.of(
-                        "money", Map.of("type", "string"),
-                        "relationship", Map.of("type", "string"),
-                        "career", Map.of("type", "string"),
-                        "health", Map.of("type", "string")
-                ),
-                "required", List.of("money", "relationship", "career", "health"),
-                "additionalProperties", false
-        );
+    // Splices the chart section into the pre-serialized request; the JSON string encoding is the only per-call work.
+    private byte[] buildRequestBody(String chartSection, boolean conciseMode, boolean stream) {
+        RequestTemplate template = stream ? streamRequestTemplate : conciseMode ? conciseRequestTemplate : requestTemplate;
+        byte[] content;
+        try {
+            content = objectMapper.writeValueAsBytes(chartSection);
+        } catch (JsonProcessingException e) {
+            throw new ApiClientException(
+                    "AI_GENERATION_FAILED",
+                    HttpStatus.BAD_GATEWAY,
+                    "AI 해석 생성에 실패했습니다. 잠시 후 다시 시도해주세요."
+            );
+        }
+        byte[] body = new byte[template.head().length + content.length + template.tail().length];
+        System.arraycopy(template.head(), 0, body, 0, template.head().length);
+        System.arraycopy(content, 0, body, template.head().length, content.length);
+        System.arraycopy(template.tail(), 0, body, template.head().length + content.length, template.tail().length);
+        return body;
+    }
 
-        return Map.of(
-                "type", "object",
-                "properties", Map.of(
-                        "summary", Map.of("type", "string"),
-                        "coreTraits", stringArray,
-                        "strengths", stringArray,
-                        "cautions", stringArray,
-                        "themes", themes,
-                        "actionTips", stringArray,
-                        "disclaimer", Map.of("type", "string")
-                ),
-                "required", List.of(
-                        "summary",
-                        "coreTraits",
-                        "strengths",
-                        "cautions",
-                        "themes",
-                        "actionTips",
-                        "disclaimer"
-                ),
-                "additionalProperties", false
-        );
+    // Serializes the whole request once with a placeholder for the user message and keeps the bytes around it.
+    // ObjectNode keeps insertion order, so the bytes are identical across requests and restarts.
+    private RequestTemplate buildRequestTemplate(boolean conciseMode, boolean stream) {
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("model", model);
+        ArrayNode messages = payload.putArray("messages");
+        messages.addObject().put("role", "system").put("content", SYSTEM_INSTRUCTIONS);
+        messages.addObject().put("role", "user").put("content", CHART_SECTION_PLACEHOLDER);
+        ObjectNode jsonSchema = payload.putObject("response_format")
+                .put("type", "json_schema")
+                .putObject("json_schema");
+        jsonSchema.put("name", "saju_interpretation");
+        jsonSchema.put("strict", true);
+        jsonSchema.set("schema", buildResponseSchema());
+        payload.put("max_completion_tokens", conciseMode ? 1800 : 3600);
+        if (stream) {
+            payload.put("stream", true);
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            String placeholder = objectMapper.writeValueAsString(CHART_SECTION_PLACEHOLDER);
+            int at = json.indexOf(placeholder);
+            return new RequestTemplate(
+                    json.substring(0, at).getBytes(StandardCharsets.UTF_8),
+                    json.substring(at + placeholder.length()).getBytes(StandardCharsets.UTF_8)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize openai request template", e);
+        }
+    }
+
+    private ObjectNode buildResponseSchema() {
+        ObjectNode schema = objectMapper.createObjectNode();
+        schema.put("type", "object");
+        ObjectNode properties = schema.putObject("properties");
+        properties.putObject("summary").put("type", "string");
+        for (String section : List.of("coreTraits", "strengths", "cautions")) {
+            stringArray(properties.putObject(section));
+        }
+        ObjectNode themes = properties.putObject("themes");
+        themes.put("type", "object");
+        ObjectNode themeProperties = themes.putObject("properties");
+        List<String> themeNames = List.of("money", "relationship", "career", "health");
+        for (String theme : themeNames) {
+            themeProperties.putObject(theme).put("type", "string");
+        }
+        themeNames.forEach(themes.putArray("required")::add);
+        themes.put("additionalProperties", false);
+        stringArray(properties.putObject("actionTips"));
+        properties.putObject("disclaimer").put("type", "string");
+        SECTIONS.forEach(schema.putArray("required")::add);
+        schema.put("additionalProperties", false);
+        return schema;
     }
 
-    private String buildPrompt(Map<String, String> chart, Map<String, Integer> fiveElements, boolean conciseMode) {
+    private static void stringArray(ObjectNode node) {
+        node.put("type", "array");
+        node.putObject("items").put("type", "string");
+    }
+
+    // The per-chart part of the prompt, sent as the user message after SYSTEM_INSTRUCTIONS.
+    private String buildChartSection(Map<String, String> chart, Map<String, Integer> fiveElements) {
         String year = valueOrDash(chart.get("year"));
         String month = valueOrDash(chart.get("month"));
         String day = valueOrDash(chart.get("day"));
@@ -363,18 +900,14 @@ public class OpenAiAnalysisClient {
                 "미제공"
         );
 
-        int wood = fiveElements.getOrDefault("wood", 0);
-        int fire = fiveElements.getOrDefault("fire", 0);
-        int earth = fiveElements.getOrDefault("earth", 0);
-        int metal = fiveElements.getOrDefault("metal", 0);
-        int water = fiveElements.getOrDefault("water", 0);
+        FiveElementCounts counts = FiveElementCounts.fromMap(fiveElements);
+        int wood = counts.count(FiveElement.WOOD);
+        int fire = counts.count(FiveElement.FIRE);
+        int earth = counts.count(FiveElement.EARTH);
+        int metal = counts.count(FiveElement.METAL);
+        int water = counts.count(FiveElement.WATER);
 
         return """
-                [시스템 가이드: FortuneLog]
-                1. 본 분석은 'FortuneLog'의 정밀한 로직으로 산출된 데이터를 바탕으로 합니다.
-                2. 제공된 사주 정보는 검증된 값이므로 다시 계산하지 말고, 이 데이터를 절대적 기준으로 해석하십시오.
-                3. 답변 시작 시 'FortuneLog'앱의 데이터를 바탕으로 해석함을 가볍게 언급하며, 전문가의 품격에 맞는 존댓말로 답변해 주십시오.
-
                 [사주 정보] - 프로필 설정자의 사주 정보
                 -성별 : %s
                 -성함 : %s
@@ -384,15 +917,6 @@ public class OpenAiAnalysisClient {
                 -십성(지지) : %s
                 -십이운성 : %s
                 -오행 분포 : 木 %d , 火 %d , 土 %d , 金 %d , 水 %d
-
-                [질문 사항]
-                위 데이터를 바탕으로 명리학 전문가의 관점에서 다음 사항을 상세히 분석해 주십시오.
-                1. 일간과 일주를 중심으로 본연의 기질과 중심 성격을 설명해 주십시오.
-                2. 월지에 배정된 기운과 전체적인 십성의 흐름을 바탕으로, 이 사주가 사회에서 어떤 환경에 놓이기 쉬우며 어떤 방식으로 역량을 발휘하는지 분석해 주십시오.
-                3. 주어진 십성 구성에서 나타나는 특징적인 장단점과 그에 따른 인생 흐름의 특성을 분석해 주십시오.
-                4. 제공된 오행 분포 수치를 절대적 기준으로 삼아, 부족하거나 과한 기운을 조절할 수 있는 실생활의 보완책(색상, 습관 등)을 제안해 주십시오.
-                5. 재물운, 연애·결혼운, 직업 적성, 건강운 등 주요 영역을 주어진 데이터를 근거로 종합 해석해 주십시오.
-                6. 전체적인 사주 구성의 균형을 맞추기 위해 이 사주가 지향해야 할 삶의 태도와 핵심적인 조언을 들려주십시오.
                 """.formatted(
                 gender,
                 nameWithAge,
@@ -440,6 +964,11 @@ public class OpenAiAnalysisClient {
         }
     }
 
+    // Response handling without the HTTP call: chat completion body -> normalized interpretation map.
+    Map<String, Object> parseCompletionResponse(String responseBody) {
+        return parseModelJson(extractCandidatePayload(responseBody).text());
+    }
+
     private Map<String, Object> parseModelJson(String text) {
         String normalized = normalizeJsonText(text);
         List<String> candidates = new ArrayList<>();
@@ -516,6 +1045,22 @@ public class OpenAiAnalysisClient {
         return null;
     }
 
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException ignored) {
+            // already failed or closed; the reader sees the end of the stream either way
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private String trimTrailingSlash(String value) {
         if (value.endsWith("/")) {
             return value.substring(0, value.length() - 1);
@@ -525,4 +1070,27 @@ public class OpenAiAnalysisClient {
 
     private record CandidatePayload(String text, String finishReason) {
     }
+
+    private record StreamedCompletion(String text, long firstChunkNanos) {
+    }
+
+    private record HedgeAttempt(Map<String, Object> parsed, boolean hedge) {
+    }
+
+    private record RequestTemplate(byte[] head, byte[] tail) {
+    }
+
+    // Carries a failure thrown by the section consumer past the upstream error mapping, so it is neither counted
+    // against OpenAI (breaker, limiter) nor answered with the fallback.
+    private static final class SectionConsumerException extends RuntimeException {
+
+        SectionConsumerException(RuntimeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
 }
@@ -1,11 +1,17 @@
 package com.fortunelog.engine.infra.supabase;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fortunelog.engine.common.BoundedCache;
+import com.fortunelog.engine.domain.model.DailyCategoryDetail;
+import com.fortunelog.engine.domain.model.DailyFortuneResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -22,9 +28,13 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class SupabasePersistenceService {
@@ -36,12 +46,51 @@ public class SupabasePersistenceService {
     ) {
     }
 
+    public record ChartRow(
+            String birthProfileId,
+            Map<String, String> chart,
+            Map<String, Integer> fiveElements
+    ) {
+    }
+
+    // Both keyed by birth_profile_id. errorCodes holds rows rejected for their own data.
+    public record ChartUpsertResult(
+            Map<String, String> chartIds,
+            Map<String, String> errorCodes
+    ) {
+    }
+
+    public record ActiveChart(
+            String chartId,
+            String userId,
+            ChartSnapshot snapshot
+    ) {
+    }
+
+    public record DailyFortuneRow(
+            String userId,
+            String chartId,
+            LocalDate targetDate,
+            byte[] contentJson
+    ) {
+    }
+
     public record AccountDeletionQueueItem(
             String requestId,
             String userId
     ) {
     }
 
+    public record AiInterpretationJobRow(
+            String jobId,
+            String chartId,
+            String status,
+            String errorCode,
+            String errorMessage,
+            Instant createdAt
+    ) {
+    }
+
     private final ObjectMapper objectMapper;
     private final HttpClient httpClient;
 
@@ -50,14 +99,33 @@ public class SupabasePersistenceService {
     private final int maxRetries;
     private final long backoffMs;
     private final Duration requestTimeout;
+    // saju_charts rows this instance has written, keyed by user_id|birth_profile_id|engine_version. Other instances
+    // (or an on delete cascade from birth_profiles) can delete or rewrite rows behind this cache, so a matching entry
+    // only lets a chart upsert be replaced by a read that confirms the row still exists with the same content;
+    // otherwise the row is upserted as usual.
+    private final BoundedCache<String, KnownChartRow> knownChartRows;
 
+    public SupabasePersistenceService(
+            ObjectMapper objectMapper,
+            String supabaseUrl,
+            String serviceRoleKey,
+            int maxRetries,
+            long backoffMs,
+            long requestTimeoutMs
+    ) {
+        this(objectMapper, supabaseUrl, serviceRoleKey, maxRetries, backoffMs, requestTimeoutMs, 10_000, 300);
+    }
+
+    @Autowired
     public SupabasePersistenceService(
             ObjectMapper objectMapper,
             @Value("${app.supabase.url:${SUPABASE_URL:}}") String supabaseUrl,
             @Value("${app.supabase.service-role-key:${SUPABASE_SERVICE_ROLE_KEY:}}") String serviceRoleKey,
             @Value("${app.supabase.max-retries:2}") int maxRetries,
             @Value("${app.supabase.retry-backoff-ms:300}") long backoffMs,
-            @Value("${app.supabase.request-timeout-ms:5000}") long requestTimeoutMs
+            @Value("${app.supabase.request-timeout-ms:5000}") long requestTimeoutMs,
+            @Value("${app.supabase.chart-row-cache-size:10000}") int chartRowCacheSize,
+            @Value("${app.supabase.chart-row-cache-ttl-seconds:300}") long chartRowCacheTtlSeconds
     ) {
         this.objectMapper = objectMapper;
         this.httpClient = HttpClient.newHttpClient();
@@ -66,6 +134,7 @@ public class SupabasePersistenceService {
         this.maxRetries = Math.max(maxRetries, 0);
         this.backoffMs = Math.max(backoffMs, 0L);
         this.requestTimeout = Duration.ofMillis(Math.max(requestTimeoutMs, 1000L));
+        this.knownChartRows = new BoundedCache<>(chartRowCacheSize, Duration.ofSeconds(chartRowCacheTtlSeconds));
     }
 
     public String insertSajuChart(
@@ -75,6 +144,13 @@ public class SupabasePersistenceService {
             Map<String, Integer> fiveElements,
             String engineVersion
     ) {
+        String cacheKey = chartRowKey(userId, birthProfileId, engineVersion);
+        KnownChartRow known = knownChartRows.get(cacheKey);
+        if (known != null && known.matches(chart, fiveElements)
+                && confirmedChartIds(userId, List.of(known)).contains(known.chartId())) {
+            return known.chartId();
+        }
+
         Map<String, Object> payload = Map.of(
                 "user_id", userId,
                 "birth_profile_id", birthProfileId,
@@ -83,11 +159,165 @@ public class SupabasePersistenceService {
                 "engine_version", engineVersion
         );
 
-        return upsertReturningId(
+        String chartId = upsertReturningId(
                 "saju_charts",
                 payload,
                 List.of("user_id", "birth_profile_id", "engine_version")
         );
+        knownChartRows.put(cacheKey, new KnownChartRow(chartId, chart, fiveElements));
+        return chartId;
+    }
+
+    // Multi-row variant of insertSajuChart: one PostgREST upsert for all rows.
+    // Rows must have distinct birthProfileIds (Postgres rejects touching the same conflict key twice).
+    // A row-level data error (unknown birth profile, malformed id) fails the whole statement, so on one the rows are
+    // bisected and retried until only the offending rows remain; those are reported in errorCodes.
+    public ChartUpsertResult upsertSajuCharts(String userId, List<ChartRow> rows, String engineVersion) {
+        Map<String, String> chartIds = new HashMap<>();
+        Map<String, String> errorCodes = new HashMap<>();
+        List<ChartRow> pending = new ArrayList<>(rows.size());
+        Map<String, KnownChartRow> knownByBirthProfile = new HashMap<>();
+        for (ChartRow row : rows) {
+            KnownChartRow known = knownChartRows.get(chartRowKey(userId, row.birthProfileId(), engineVersion));
+            if (known != null && known.matches(row.chart(), row.fiveElements())) {
+                knownByBirthProfile.put(row.birthProfileId(), known);
+                continue;
+            }
+            pending.add(row);
+        }
+        if (!knownByBirthProfile.isEmpty()) {
+            Set<String> confirmed = confirmedChartIds(userId, knownByBirthProfile.values());
+            for (ChartRow row : rows) {
+                KnownChartRow known = knownByBirthProfile.get(row.birthProfileId());
+                if (known == null) {
+                    continue;
+                }
+                if (confirmed.contains(known.chartId())) {
+                    chartIds.put(row.birthProfileId(), known.chartId());
+                } else {
+                    pending.add(row);
+                }
+            }
+        }
+        if (!pending.isEmpty()) {
+            ensureConfigured();
+            upsertChartRows(userId, pending, engineVersion, chartIds, errorCodes);
+        }
+        return new ChartUpsertResult(chartIds, errorCodes);
+    }
+
+    private void upsertChartRows(
+            String userId,
+            List<ChartRow> rows,
+            String engineVersion,
+            Map<String, String> chartIds,
+            Map<String, String> errorCodes
+    ) {
+        List<Map<String, Object>> payload = new ArrayList<>(rows.size());
+        Map<String, ChartRow> byBirthProfile = new HashMap<>();
+        for (ChartRow row : rows) {
+            byBirthProfile.put(row.birthProfileId(), row);
+            payload.add(Map.of(
+                    "user_id", userId,
+                    "birth_profile_id", row.birthProfileId(),
+                    "chart_json", row.chart(),
+                    "five_elements_json", row.fiveElements(),
+                    "engine_version", engineVersion
+            ));
+        }
+
+        String path = "/rest/v1/saju_charts?select=" + URLEncoder.encode("id,birth_profile_id", StandardCharsets.UTF_8)
+                + "&on_conflict=" + URLEncoder.encode("user_id,birth_profile_id,engine_version", StandardCharsets.UTF_8);
+        String responseBody;
+        try {
+            responseBody = sendPost(path, payload, true);
+        } catch (IllegalStateException e) {
+            String errorCode = chartRowErrorCode(e);
+            if (errorCode == null) {
+                throw e;
+            }
+            if (rows.size() == 1) {
+                errorCodes.put(rows.get(0).birthProfileId(), errorCode);
+                return;
+            }
+            int mid = rows.size() / 2;
+            upsertChartRows(userId, rows.subList(0, mid), engineVersion, chartIds, errorCodes);
+            upsertChartRows(userId, rows.subList(mid, rows.size()), engineVersion, chartIds, errorCodes);
+            return;
+        }
+
+        try {
+            JsonNode node = objectMapper.readTree(responseBody);
+            if (!node.isArray()) {
+                throw new IllegalStateException("upsert response was not an array");
+            }
+            for (JsonNode row : node) {
+                JsonNode id = row.get("id");
+                JsonNode birthProfileId = row.get("birth_profile_id");
+                if (id != null && birthProfileId != null) {
+                    chartIds.put(birthProfileId.asText(), id.asText());
+                    ChartRow written = byBirthProfile.get(birthProfileId.asText());
+                    if (written != null) {
+                        knownChartRows.put(
+                                chartRowKey(userId, written.birthProfileId(), engineVersion),
+                                new KnownChartRow(id.asText(), written.chart(), written.fiveElements())
+                        );
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to parse Supabase response", e);
+        }
+    }
+
+    // Ids of the known rows that still exist in saju_charts with the same content, read in one request.
+    private Set<String> confirmedChartIds(String userId, Collection<KnownChartRow> known) {
+        ensureConfigured();
+        Map<String, KnownChartRow> byId = new HashMap<>();
+        for (KnownChartRow row : known) {
+            byId.put(row.chartId(), row);
+        }
+        String path = "/rest/v1/saju_charts"
+                + "?select=" + URLEncoder.encode("id,chart_json,five_elements_json", StandardCharsets.UTF_8)
+                + "&user_id=" + URLEncoder.encode("eq." + userId, StandardCharsets.UTF_8)
+                + "&id=" + URLEncoder.encode("in.(" + String.join(",", byId.keySet()) + ")", StandardCharsets.UTF_8);
+        String responseBody = sendGet(path);
+
+        try {
+            JsonNode node = objectMapper.readTree(responseBody);
+            Set<String> confirmed = new HashSet<>();
+            if (!node.isArray()) {
+                return confirmed;
+            }
+            for (JsonNode row : node) {
+                KnownChartRow expected = byId.get(text(row, "id"));
+                JsonNode chartNode = row.get("chart_json");
+                JsonNode fiveNode = row.get("five_elements_json");
+                if (expected == null || chartNode == null || fiveNode == null) {
+                    continue;
+                }
+                Map<String, String> chart = objectMapper.convertValue(chartNode, new TypeReference<>() {});
+                Map<String, Integer> fiveElements = objectMapper.convertValue(fiveNode, new TypeReference<>() {});
+                if (expected.matches(chart, fiveElements)) {
+                    confirmed.add(expected.chartId());
+                }
+            }
+            return confirmed;
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new IllegalStateException("failed to parse Supabase chart response", e);
+        }
+    }
+
+    // Errors caused by the data of a single row; anything else (timeouts, 5xx, schema) fails the whole batch.
+    private static String chartRowErrorCode(IllegalStateException e) {
+        String msg = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
+        if (msg.contains("23503") || msg.contains("violates foreign key constraint")) {
+            return "BIRTH_PROFILE_NOT_FOUND";
+        }
+        if (msg.contains("22p02") || msg.contains("invalid input syntax")) {
+            return "BIRTH_PROFILE_INVALID";
+        }
+        return null;
     }
 
     public String insertReport(
@@ -97,6 +327,40 @@ public class SupabasePersistenceService {
             Map<String, ?> content,
             boolean isPaidContent,
             boolean visible
+    ) {
+        return insertReportContent(userId, chartId, reportType, content, isPaidContent, visible);
+    }
+
+    public String upsertDailyFortuneReport(
+            String userId,
+            String chartId,
+            LocalDate targetDate,
+            Map<String, ?> content,
+            boolean isPaidContent,
+            boolean visible
+    ) {
+        return upsertDailyReportContent(userId, chartId, targetDate, content, isPaidContent, visible);
+    }
+
+    // contentJson is an already serialized JSON object; it is embedded into the request body as-is.
+    public String upsertDailyFortuneReport(
+            String userId,
+            String chartId,
+            LocalDate targetDate,
+            byte[] contentJson,
+            boolean isPaidContent,
+            boolean visible
+    ) {
+        return upsertDailyReportContent(userId, chartId, targetDate, rawJson(contentJson), isPaidContent, visible);
+    }
+
+    private String insertReportContent(
+            String userId,
+            String chartId,
+            String reportType,
+            Object content,
+            boolean isPaidContent,
+            boolean visible
     ) {
         Map<String, Object> payload = Map.of(
                 "user_id", userId,
@@ -107,14 +371,19 @@ public class SupabasePersistenceService {
                 "visible", visible
         );
 
-        return insertReturningId("reports", payload);
+        try {
+            return insertReturningId("reports", payload);
+        } catch (IllegalStateException e) {
+            forgetKnownChartsOnMissingChart(userId, e);
+            throw e;
+        }
     }
 
-    public String upsertDailyFortuneReport(
+    private String upsertDailyReportContent(
             String userId,
             String chartId,
             LocalDate targetDate,
-            Map<String, ?> content,
+            Object content,
             boolean isPaidContent,
             boolean visible
     ) {
@@ -135,6 +404,7 @@ public class SupabasePersistenceService {
                     List.of("user_id", "chart_id", "report_type", "target_date")
             );
         } catch (IllegalStateException e) {
+            forgetKnownChartsOnMissingChart(userId, e);
             // Backward compatibility:
             // - schemas without reports.target_date
             // - schemas missing a matching unique constraint for ON CONFLICT(user_id, chart_id, report_type, target_date)
@@ -155,7 +425,7 @@ public class SupabasePersistenceService {
             boolean missingConflictConstraint = isMissingConflictConstraint(msg);
 
             if (missingTargetDate || missingConflictConstraint) {
-                return insertReport(userId, chartId, "daily", content, isPaidContent, visible);
+                return insertReportContent(userId, chartId, "daily", content, isPaidContent, visible);
             }
             throw e;
         }
@@ -185,6 +455,7 @@ public class SupabasePersistenceService {
                     List.of("user_id", "chart_id", "report_type")
             );
         } catch (IllegalStateException e) {
+            forgetKnownChartsOnMissingChart(userId, e);
             String msg = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
             if (isMissingConflictConstraint(msg)) {
                 // Some DBs don't have a matching non-partial unique index for
@@ -219,6 +490,19 @@ public class SupabasePersistenceService {
                 || errorMessageLowerCase.contains("no unique or exclusion constraint matching the on conflict specification");
     }
 
+    // reports.chart_id points at a saju_charts row that no longer exists (23503 foreign_key_violation).
+    private void forgetKnownChartsOnMissingChart(String userId, IllegalStateException e) {
+        String msg = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
+        if (msg.contains("23503") || msg.contains("violates foreign key constraint")) {
+            forgetKnownCharts(userId);
+        }
+    }
+
+    private void forgetKnownCharts(String userId) {
+        String keyPrefix = userId + "|";
+        knownChartRows.invalidateIf(key -> key.startsWith(keyPrefix));
+    }
+
     private boolean isUniqueViolation(String errorMessageLowerCase) {
         return errorMessageLowerCase.contains("23505")
                 || errorMessageLowerCase.contains("duplicate key value violates unique constraint");
@@ -267,6 +551,7 @@ public class SupabasePersistenceService {
         try {
             JsonNode node = objectMapper.readTree(responseBody);
             if (!node.isArray() || node.isEmpty()) {
+                forgetKnownCharts(userId);
                 return null;
             }
 
@@ -291,6 +576,181 @@ public class SupabasePersistenceService {
         }
     }
 
+    // Visible report content_json as compact JSON, or null when there is none. For report_type 'daily' pass the
+    // target date; otherwise the latest report of the type is returned.
+    public String findReportContentJson(String userId, String chartId, String reportType, LocalDate targetDate) {
+        ensureConfigured();
+        String path = "/rest/v1/reports"
+                + "?select=" + URLEncoder.encode("content_json", StandardCharsets.UTF_8)
+                + "&user_id=" + URLEncoder.encode("eq." + userId, StandardCharsets.UTF_8)
+                + "&chart_id=" + URLEncoder.encode("eq." + chartId, StandardCharsets.UTF_8)
+                + "&report_type=" + URLEncoder.encode("eq." + reportType, StandardCharsets.UTF_8)
+                + "&visible=is.true"
+                + (targetDate == null ? "" : "&target_date=" + URLEncoder.encode("eq." + targetDate, StandardCharsets.UTF_8))
+                + "&order=" + URLEncoder.encode("created_at.desc", StandardCharsets.UTF_8)
+                + "&limit=1";
+        String responseBody = sendGet(path);
+
+        try {
+            JsonNode node = objectMapper.readTree(responseBody);
+            if (!node.isArray() || node.isEmpty()) {
+                return null;
+            }
+            JsonNode content = node.get(0).get("content_json");
+            return content == null || content.isNull() ? null : content.toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to parse Supabase report response", e);
+        }
+    }
+
+    // Stored ai_interpretation content generated from the given prompt signature, or null.
+    public Map<String, Object> findAiInterpretation(String userId, String chartId, String signature) {
+        return findAiInterpretationContent(userId, chartId, signature);
+    }
+
+    // Latest stored ai_interpretation content regardless of signature, or null.
+    public Map<String, Object> findLatestAiInterpretation(String userId, String chartId) {
+        return findAiInterpretationContent(userId, chartId, null);
+    }
+
+    private Map<String, Object> findAiInterpretationContent(String userId, String chartId, String signature) {
+        ensureConfigured();
+        String path = "/rest/v1/reports"
+                + "?select=" + URLEncoder.encode("content_json", StandardCharsets.UTF_8)
+                + "&user_id=" + URLEncoder.encode("eq." + userId, StandardCharsets.UTF_8)
+                + "&chart_id=" + URLEncoder.encode("eq." + chartId, StandardCharsets.UTF_8)
+                + "&report_type=" + URLEncoder.encode("eq.ai_interpretation", StandardCharsets.UTF_8)
+                + (signature == null ? "" : "&" + URLEncoder.encode("content_json->>signature", StandardCharsets.UTF_8)
+                        + "=" + URLEncoder.encode("eq." + signature, StandardCharsets.UTF_8))
+                + "&visible=is.true"
+                + "&order=" + URLEncoder.encode("created_at.desc", StandardCharsets.UTF_8)
+                + "&limit=1";
+        String responseBody = sendGet(path);
+
+        try {
+            JsonNode node = objectMapper.readTree(responseBody);
+            if (!node.isArray() || node.isEmpty()) {
+                return null;
+            }
+            JsonNode content = node.get(0).get("content_json");
+            if (content == null || !content.isObject()) {
+                return null;
+            }
+            return objectMapper.convertValue(content, new TypeReference<LinkedHashMap<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to parse Supabase report response", e);
+        }
+    }
+
+    // Keyset page of charts for the given engine version whose owner is not deactivated, ordered by id.
+    // Pass the last chart id of the previous page as afterChartId (null for the first page).
+    public List<ActiveChart> findActiveChartsPage(String engineVersion, String afterChartId, int limit) {
+        ensureConfigured();
+        String path = "/rest/v1/saju_charts"
+                + "?select=" + URLEncoder.encode("id,user_id,chart_json,five_elements_json,profiles!inner(is_deactivated)", StandardCharsets.UTF_8)
+                + "&engine_version=" + URLEncoder.encode("eq." + engineVersion, StandardCharsets.UTF_8)
+                + "&profiles.is_deactivated=" + URLEncoder.encode("eq.false", StandardCharsets.UTF_8)
+                + (afterChartId == null ? "" : "&id=" + URLEncoder.encode("gt." + afterChartId, StandardCharsets.UTF_8))
+                + "&order=" + URLEncoder.encode("id.asc", StandardCharsets.UTF_8)
+                + "&limit=" + Math.max(1, limit);
+        String responseBody = sendGet(path);
+
+        try {
+            JsonNode node = objectMapper.readTree(responseBody);
+            if (!node.isArray()) {
+                return List.of();
+            }
+            List<ActiveChart> charts = new ArrayList<>(node.size());
+            for (JsonNode row : node) {
+                JsonNode id = row.get("id");
+                JsonNode userId = row.get("user_id");
+                JsonNode chartNode = row.get("chart_json");
+                JsonNode fiveNode = row.get("five_elements_json");
+                if (id == null || userId == null || chartNode == null || fiveNode == null) {
+                    continue;
+                }
+                Map<String, String> chart = objectMapper.convertValue(chartNode, new TypeReference<>() {});
+                Map<String, Integer> fiveElements = objectMapper.convertValue(fiveNode, new TypeReference<>() {});
+                charts.add(new ActiveChart(id.asText(), userId.asText(), new ChartSnapshot(chart, fiveElements)));
+            }
+            return charts;
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new IllegalStateException("failed to parse Supabase chart response", e);
+        }
+    }
+
+    // Stored daily report for (user, chart, date), or null when there is none or it predates the current shape.
+    public DailyFortuneResult findDailyFortune(String userId, String chartId, LocalDate targetDate) {
+        return findDailyFortunes(userId, chartId, targetDate, targetDate).get(targetDate);
+    }
+
+    // Stored daily reports for from..to (inclusive) keyed by date in one request; unusable rows are left out.
+    public Map<LocalDate, DailyFortuneResult> findDailyFortunes(String userId, String chartId, LocalDate from, LocalDate to) {
+        ensureConfigured();
+        String dateFilter = from.equals(to)
+                ? "&target_date=" + URLEncoder.encode("eq." + from, StandardCharsets.UTF_8)
+                : "&target_date=" + URLEncoder.encode("gte." + from, StandardCharsets.UTF_8)
+                + "&target_date=" + URLEncoder.encode("lte." + to, StandardCharsets.UTF_8);
+        String path = "/rest/v1/reports"
+                + "?select=" + URLEncoder.encode("target_date,content_json", StandardCharsets.UTF_8)
+                + "&user_id=" + URLEncoder.encode("eq." + userId, StandardCharsets.UTF_8)
+                + "&chart_id=" + URLEncoder.encode("eq." + chartId, StandardCharsets.UTF_8)
+                + "&report_type=" + URLEncoder.encode("eq.daily", StandardCharsets.UTF_8)
+                + "&visible=is.true"
+                + dateFilter;
+        String responseBody = sendGet(path);
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(responseBody);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to parse Supabase report response", e);
+        }
+        Map<LocalDate, DailyFortuneResult> stored = new HashMap<>();
+        if (!node.isArray()) {
+            return stored;
+        }
+        for (JsonNode row : node) {
+            JsonNode targetDate = row.get("target_date");
+            JsonNode content = row.get("content_json");
+            if (targetDate == null || content == null) {
+                continue;
+            }
+            try {
+                LocalDate date = LocalDate.parse(targetDate.asText());
+                DailyFortuneResult result = toDailyFortuneResult(userId, date, objectMapper.convertValue(content, StoredDailyFortune.class));
+                if (result != null) {
+                    stored.put(date, result);
+                }
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                log.warn("stored daily fortune could not be parsed; regenerating. chartId={} date={}", chartId, targetDate.asText());
+            }
+        }
+        return stored;
+    }
+
+    // Multi-row daily report upsert on (user_id, chart_id, report_type, target_date); returns rows written.
+    public int upsertDailyFortuneReports(List<DailyFortuneRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        ensureConfigured();
+        List<Map<String, Object>> payload = new ArrayList<>(rows.size());
+        for (DailyFortuneRow row : rows) {
+            payload.add(Map.of(
+                    "user_id", row.userId(),
+                    "chart_id", row.chartId(),
+                    "report_type", "daily",
+                    "target_date", row.targetDate().toString(),
+                    "content_json", rawJson(row.contentJson()),
+                    "is_paid_content", false,
+                    "visible", true
+            ));
+        }
+        String path = buildWritePath("reports", true, List.of("user_id", "chart_id", "report_type", "target_date"));
+        return parseArraySize(sendPost(path, payload, true));
+    }
+
     public String findActiveAccountDeletionRequestId(String userId) {
         ensureConfigured();
         String path = "/rest/v1/account_deletion_requests"
@@ -410,11 +870,88 @@ public class SupabasePersistenceService {
         return parseArraySize(responseBody) > 0;
     }
 
+    public void insertAiInterpretationJob(String jobId, String userId, String chartId) {
+        insertReturningId("ai_interpretation_jobs", Map.of(
+                "id", jobId,
+                "user_id", userId,
+                "chart_id", chartId,
+                "status", "queued"
+        ));
+    }
+
+    // finishedAt is null while the job is still queued or running.
+    public boolean updateAiInterpretationJob(
+            String jobId,
+            String status,
+            String errorCode,
+            String errorMessage,
+            Instant finishedAt
+    ) {
+        ensureConfigured();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status);
+        body.put("error_code", errorCode);
+        body.put("error_message", errorMessage);
+        body.put("finished_at", finishedAt == null ? null : finishedAt.toString());
+        String path = "/rest/v1/ai_interpretation_jobs"
+                + "?select=" + URLEncoder.encode("id", StandardCharsets.UTF_8)
+                + "&id=" + URLEncoder.encode("eq." + jobId, StandardCharsets.UTF_8);
+        String responseBody = sendPatch(path, body);
+        return parseArraySize(responseBody) > 0;
+    }
+
+    public AiInterpretationJobRow findAiInterpretationJob(String userId, String jobId) {
+        ensureConfigured();
+        String path = "/rest/v1/ai_interpretation_jobs"
+                + "?select=" + URLEncoder.encode("id,chart_id,status,error_code,error_message,created_at", StandardCharsets.UTF_8)
+                + "&id=" + URLEncoder.encode("eq." + jobId, StandardCharsets.UTF_8)
+                + "&user_id=" + URLEncoder.encode("eq." + userId, StandardCharsets.UTF_8)
+                + "&limit=1";
+        String responseBody = sendGet(path);
+        try {
+            JsonNode node = objectMapper.readTree(responseBody);
+            if (!node.isArray() || node.isEmpty()) {
+                return null;
+            }
+            JsonNode row = node.get(0);
+            String chartId = text(row, "chart_id");
+            String status = text(row, "status");
+            String createdAt = text(row, "created_at");
+            if (chartId == null || status == null || createdAt == null) {
+                return null;
+            }
+            return new AiInterpretationJobRow(
+                    jobId,
+                    chartId,
+                    status,
+                    text(row, "error_code"),
+                    text(row, "error_message"),
+                    Instant.parse(createdAt)
+            );
+        } catch (JsonProcessingException | DateTimeParseException e) {
+            throw new IllegalStateException("failed to parse ai interpretation job", e);
+        }
+    }
+
+    // Jobs created before the cutoff; returns the number of deleted rows.
+    public int deleteAiInterpretationJobsCreatedBefore(Instant cutoff) {
+        ensureConfigured();
+        String path = "/rest/v1/ai_interpretation_jobs"
+                + "?select=" + URLEncoder.encode("id", StandardCharsets.UTF_8)
+                + "&created_at=" + URLEncoder.encode("lt." + cutoff, StandardCharsets.UTF_8);
+        return parseArraySize(sendDelete(path));
+    }
+
+    public int deleteUserAiInterpretationJobs(String userId) {
+        return deleteByUserId("ai_interpretation_jobs", userId);
+    }
+
     public int deleteUserReports(String userId) {
         return deleteByUserId("reports", userId);
     }
 
     public int deleteUserCharts(String userId) {
+        forgetKnownCharts(userId);
         return deleteByUserId("saju_charts", userId);
     }
 
@@ -441,6 +978,24 @@ public class SupabasePersistenceService {
         return parseArraySize(responseBody) > 0;
     }
 
+    // First caller for (jobName, runKey) wins; everyone else gets false from the unique constraint.
+    public boolean claimScheduledJobRun(String jobName, String runKey, String claimedBy) {
+        try {
+            insertReturningId("scheduled_job_runs", Map.of(
+                    "job_name", jobName,
+                    "run_key", runKey,
+                    "claimed_by", claimedBy
+            ));
+            return true;
+        } catch (IllegalStateException e) {
+            String msg = e.getMessage() == null ? "" : e.getMessage().toLowerCase();
+            if (isUniqueViolation(msg)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
     public boolean registerPaymentWebhookEvent(
             String provider,
             String providerOrderId,
@@ -577,6 +1132,10 @@ public class SupabasePersistenceService {
         return parseArraySize(responseBody);
     }
 
+    private static RawValue rawJson(byte[] json) {
+        return new RawValue(new String(json, StandardCharsets.UTF_8));
+    }
+
     private int parseArraySize(String responseBody) {
         try {
             JsonNode node = objectMapper.readTree(responseBody);
@@ -605,6 +1164,46 @@ public class SupabasePersistenceService {
         }
     }
 
+    private String chartRowKey(String userId, String birthProfileId, String engineVersion) {
+        return userId + "|" + birthProfileId + "|" + engineVersion;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record StoredDailyFortune(
+            Integer score,
+            String summary,
+            Map<String, String> category,
+            Map<String, DailyCategoryDetail> categoryDetails,
+            List<String> actions
+    ) {
+    }
+
+    private static DailyFortuneResult toDailyFortuneResult(String userId, LocalDate date, StoredDailyFortune stored) {
+        if (stored.score() == null || stored.summary() == null || stored.category() == null
+                || stored.categoryDetails() == null || stored.actions() == null) {
+            return null;
+        }
+        return new DailyFortuneResult(
+                userId,
+                date,
+                stored.score(),
+                stored.category(),
+                stored.categoryDetails(),
+                stored.summary(),
+                stored.actions()
+        );
+    }
+
+    private record KnownChartRow(
+            String chartId,
+            Map<String, String> chart,
+            Map<String, Integer> fiveElements
+    ) {
+        boolean matches(Map<String, String> otherChart, Map<String, Integer> otherFiveElements) {
+            return chart.equals(otherChart) && fiveElements.equals(otherFiveElements);
+        }
+    }
+
     private String insertReturningId(String table, Map<String, ?> payload) {
         return writeReturningId(table, payload, false, List.of());
     }
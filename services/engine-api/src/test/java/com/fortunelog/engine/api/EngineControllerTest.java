@@ -1,20 +1,44 @@
 package com.fortunelog.engine.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fortunelog.engine.application.AccountDeletionService;
+import com.fortunelog.engine.application.AiInterpretationJobService;
 import com.fortunelog.engine.application.EngineService;
 import com.fortunelog.engine.application.PaymentWebhookService;
+import com.fortunelog.engine.application.dto.GenerateAiInterpretationRequest;
+import com.fortunelog.engine.application.dto.GenerateDailyFortuneRequest;
 import com.fortunelog.engine.application.dto.RequestAccountDeletionRequest;
+import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.common.ContentETag;
+import com.fortunelog.engine.domain.model.DailyFortuneResult;
+import com.fortunelog.engine.infra.llm.OpenAiAnalysisClient;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.oauth2.jwt.Jwt;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class EngineControllerTest {
@@ -35,6 +59,7 @@ class EngineControllerTest {
                 engineService,
                 paymentWebhookService,
                 accountDeletionService,
+                mock(AiInterpretationJobService.class),
                 environment
         );
         Map<String, Object> response = controller.processPaymentWebhook(
@@ -79,6 +104,7 @@ class EngineControllerTest {
                 engineService,
                 paymentWebhookService,
                 accountDeletionService,
+                mock(AiInterpretationJobService.class),
                 environment
         );
 
@@ -97,4 +123,134 @@ class EngineControllerTest {
                 "서비스를 더 이상 사용하지 않습니다."
         );
     }
+
+    @Test
+    void shouldWriteSerializedDailyFortuneContentWithRequestAndUserIds() throws Exception {
+        EngineService engineService = mock(EngineService.class);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        Jwt jwt = mock(Jwt.class);
+        when(request.getAttribute("requestId")).thenReturn("req-\"1");
+        when(jwt.getSubject()).thenReturn("user-1");
+        var fortuneRequest = new GenerateDailyFortuneRequest("chart-1", "2026-02-13");
+        var result = new DailyFortuneResult(
+                "user-1",
+                LocalDate.of(2026, 2, 13),
+                74,
+                Map.of("love", "대화의 온도를 낮추세요."),
+                Map.of(),
+                "오늘은 흐름을 빠르게 타는 날입니다.",
+                List.of("저녁 20분 산책")
+        );
+        var serializer = new EngineService(mock(SupabasePersistenceService.class), mock(OpenAiAnalysisClient.class));
+        when(engineService.generateDailyFortunePayload("user-1", fortuneRequest))
+                .thenReturn(serializer.serializeDailyFortune(result));
+
+        EngineController controller = new EngineController(
+                engineService,
+                mock(PaymentWebhookService.class),
+                mock(AccountDeletionService.class),
+                mock(AiInterpretationJobService.class),
+                mock(Environment.class)
+        );
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.generateDailyFortune(fortuneRequest, jwt, request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        byte[] body = response.getContentAsByteArray();
+        assertEquals(body.length, response.getContentLength());
+        JsonNode json = new ObjectMapper().readTree(body);
+        assertEquals("req-\"1", json.get("requestId").asText());
+        assertEquals("user-1", json.get("userId").asText());
+        assertEquals("2026-02-13", json.get("date").asText());
+        assertEquals(74, json.get("score").asInt());
+        assertEquals("대화의 온도를 낮추세요.", json.get("category").get("love").asText());
+        assertEquals("저녁 20분 산책", json.get("actions").get(0).asText());
+    }
+
+    @Test
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() {
+        EngineService engineService = mock(EngineService.class);
+        Jwt jwt = mock(Jwt.class);
+        when(jwt.getSubject()).thenReturn("user-1");
+        byte[] content = "{\"summary\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        when(engineService.findStoredReport("user-1", "chart-1", "ai_interpretation")).thenReturn(content);
+        EngineController controller = new EngineController(
+                engineService,
+                mock(PaymentWebhookService.class),
+                mock(AccountDeletionService.class),
+                mock(AiInterpretationJobService.class),
+                mock(Environment.class)
+        );
+
+        var first = controller.getReport("chart-1", "ai_interpretation", null, jwt);
+        var second = controller.getReport("chart-1", "ai_interpretation", first.getHeaders().getETag(), jwt);
+
+        assertEquals(200, first.getStatusCode().value());
+        assertArrayEquals(content, first.getBody());
+        assertEquals(ContentETag.of(content), first.getHeaders().getETag());
+        assertEquals(304, second.getStatusCode().value());
+        assertNull(second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldRejectMalformedDailyFortuneDateWithDateCode() {
+        EngineService engineService = mock(EngineService.class);
+        Jwt jwt = mock(Jwt.class);
+        when(jwt.getSubject()).thenReturn("user-1");
+        EngineController controller = new EngineController(
+                engineService,
+                mock(PaymentWebhookService.class),
+                mock(AccountDeletionService.class),
+                mock(AiInterpretationJobService.class),
+                mock(Environment.class)
+        );
+
+        ApiClientException ex = assertThrows(
+                ApiClientException.class,
+                () -> controller.getDailyFortune("chart-1", "2026-02-30x", null, jwt)
+        );
+        assertEquals("DATE_INVALID", ex.code());
+        assertEquals(HttpStatus.BAD_REQUEST, ex.status());
+        verifyNoInteractions(engineService);
+    }
+
+    @Test
+    void shouldRejectStreamsBeyondConcurrencyCap() throws Exception {
+        EngineService engineService = mock(EngineService.class);
+        Jwt jwt = mock(Jwt.class);
+        when(jwt.getSubject()).thenReturn("user-1");
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getAttribute("requestId")).thenReturn("req-1");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(engineService.streamAiInterpretation(eq("user-1"), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new ApiClientException("CHART_NOT_FOUND", HttpStatus.NOT_FOUND, "사주 차트를 먼저 계산해주세요.");
+        });
+        EngineController controller = new EngineController(
+                engineService,
+                mock(PaymentWebhookService.class),
+                mock(AccountDeletionService.class),
+                mock(AiInterpretationJobService.class),
+                mock(Environment.class),
+                1
+        );
+
+        try {
+            controller.streamAiInterpretation(new GenerateAiInterpretationRequest("chart-1"), jwt, request);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            ApiClientException ex = assertThrows(
+                    ApiClientException.class,
+                    () -> controller.streamAiInterpretation(new GenerateAiInterpretationRequest("chart-2"), jwt, request)
+            );
+            assertEquals("AI_STREAM_LIMIT_EXCEEDED", ex.code());
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.status());
+        } finally {
+            release.countDown();
+            controller.shutdown();
+        }
+    }
 }
@@ -0,0 +1,238 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.application.dto.GenerateAiInterpretationRequest;
+import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.domain.model.ReportResult;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiInterpretationJobServiceTest {
+
+    private static final String USER_ID = "user-1";
+    private static final ReportResult RESULT = new ReportResult("chart-1", "ai_interpretation", Map.of("summary", "요약"));
+
+    private final EngineService engineService = mock(EngineService.class);
+    private final SupabasePersistenceService persistenceService = mock(SupabasePersistenceService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AiInterpretationJobService jobService;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRunJobInBackgroundAndExposeResult() throws Exception {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 2, 10, 2, 30, 10);
+        when(engineService.generateAiInterpretation(eq(USER_ID), any())).thenReturn(RESULT);
+
+        var submitted = jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-1"));
+        var finished = jobService.await(USER_ID, submitted.jobId(), Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(AiInterpretationJobService.Status.SUCCEEDED, finished.status());
+        assertEquals(RESULT, finished.result());
+        assertEquals(1L, meterRegistry.timer("fortunelog.ai_interpretation.jobs.queue_wait").count());
+        assertEquals(1L, meterRegistry.timer("fortunelog.ai_interpretation.jobs.execution").count());
+        verify(persistenceService).insertAiInterpretationJob(submitted.jobId(), USER_ID, "chart-1");
+        verify(persistenceService).updateAiInterpretationJob(eq(submitted.jobId()), eq("running"), isNull(), isNull(), isNull());
+        verify(persistenceService).updateAiInterpretationJob(eq(submitted.jobId()), eq("succeeded"), isNull(), isNull(), notNull());
+    }
+
+    @Test
+    void shouldAnswerPollForJobAcceptedElsewhereFromPersistedRowAndStoredReport() throws Exception {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 1, 10, 2, 30, 10);
+        String jobId = UUID.randomUUID().toString();
+        when(persistenceService.findAiInterpretationJob(USER_ID, jobId)).thenReturn(
+                new SupabasePersistenceService.AiInterpretationJobRow(jobId, "chart-1", "succeeded", null, null, Instant.now())
+        );
+        when(persistenceService.findLatestAiInterpretation(USER_ID, "chart-1")).thenReturn(RESULT.content());
+
+        var polled = jobService.await(USER_ID, jobId, Duration.ofSeconds(30)).get(1, TimeUnit.SECONDS);
+
+        assertEquals(AiInterpretationJobService.Status.SUCCEEDED, polled.status());
+        assertEquals(RESULT, polled.result());
+    }
+
+    @Test
+    void shouldReportPersistedJobThatNeverFinishedAsLost() throws Exception {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 1, 10, 2, 30, 10);
+        String runningJobId = UUID.randomUUID().toString();
+        String lostJobId = UUID.randomUUID().toString();
+        when(persistenceService.findAiInterpretationJob(USER_ID, runningJobId)).thenReturn(
+                new SupabasePersistenceService.AiInterpretationJobRow(runningJobId, "chart-1", "running", null, null, Instant.now())
+        );
+        when(persistenceService.findAiInterpretationJob(USER_ID, lostJobId)).thenReturn(new SupabasePersistenceService.AiInterpretationJobRow(
+                lostJobId, "chart-1", "running", null, null, Instant.now().minus(Duration.ofMinutes(11))
+        ));
+
+        var running = jobService.await(USER_ID, runningJobId, Duration.ZERO).get(1, TimeUnit.SECONDS);
+        var lost = jobService.await(USER_ID, lostJobId, Duration.ZERO).get(1, TimeUnit.SECONDS);
+
+        assertEquals(AiInterpretationJobService.Status.RUNNING, running.status());
+        assertEquals(AiInterpretationJobService.Status.FAILED, lost.status());
+        assertEquals("AI_JOB_LOST", lost.errorCode());
+    }
+
+    @Test
+    void shouldNotFindUnknownOrMalformedJobIds() {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 1, 10, 2, 30, 10);
+
+        ApiClientException unknown = assertThrows(
+                ApiClientException.class,
+                () -> jobService.await(USER_ID, UUID.randomUUID().toString(), Duration.ZERO)
+        );
+        ApiClientException malformed = assertThrows(
+                ApiClientException.class,
+                () -> jobService.await(USER_ID, "not-a-job", Duration.ZERO)
+        );
+
+        assertEquals("AI_JOB_NOT_FOUND", unknown.code());
+        assertEquals("AI_JOB_NOT_FOUND", malformed.code());
+        verify(persistenceService, never()).findAiInterpretationJob(USER_ID, "not-a-job");
+    }
+
+    @Test
+    void shouldReportFailureCodeOfFailedJob() throws Exception {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 1, 10, 2, 30, 10);
+        when(engineService.generateAiInterpretation(eq(USER_ID), any()))
+                .thenThrow(new ApiClientException("CHART_NOT_FOUND", HttpStatus.NOT_FOUND, "사주 차트를 먼저 계산해주세요."));
+
+        var submitted = jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-1"));
+        var finished = jobService.await(USER_ID, submitted.jobId(), Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(AiInterpretationJobService.Status.FAILED, finished.status());
+        assertEquals("CHART_NOT_FOUND", finished.errorCode());
+    }
+
+    @Test
+    void shouldRejectWhenUserHasTooManyJobsInFlight() {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 2, 10, 1, 30, 10);
+        blockUntilReleased();
+
+        jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-1"));
+        ApiClientException ex = assertThrows(
+                ApiClientException.class,
+                () -> jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-2"))
+        );
+
+        assertEquals("AI_JOB_LIMIT_EXCEEDED", ex.code());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.status());
+        jobService.submit("user-2", new GenerateAiInterpretationRequest("chart-3"));
+    }
+
+    @Test
+    void shouldHoldPerUserLimitUnderConcurrentSubmits() throws Exception {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 1, 100_000, 2, 30, 10);
+        blockUntilReleased();
+
+        int threads = 16;
+        ExecutorService submitters = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 300; round++) {
+                String userId = "user-race-" + round;
+                CyclicBarrier start = new CyclicBarrier(threads);
+                AtomicInteger accepted = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(submitters.submit(() -> {
+                        start.await(5, TimeUnit.SECONDS);
+                        try {
+                            jobService.submit(userId, new GenerateAiInterpretationRequest("chart-1"));
+                            accepted.incrementAndGet();
+                        } catch (ApiClientException e) {
+                            assertEquals("AI_JOB_LIMIT_EXCEEDED", e.code());
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(5, TimeUnit.SECONDS);
+                }
+                assertEquals(2, accepted.get(), "accepted jobs for " + userId);
+            }
+        } finally {
+            submitters.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 1, 1, 10, 30, 10);
+        blockUntilReleased();
+
+        var running = jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-1"));
+        awaitStatus(running.jobId(), AiInterpretationJobService.Status.RUNNING);
+        jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-2"));
+        ApiClientException ex = assertThrows(
+                ApiClientException.class,
+                () -> jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-3"))
+        );
+
+        assertEquals("AI_JOB_QUEUE_FULL", ex.code());
+        assertEquals(1, jobService.queueDepth());
+    }
+
+    @Test
+    void shouldHideJobsOfOtherUsers() {
+        jobService = new AiInterpretationJobService(engineService, persistenceService, meterRegistry, 1, 10, 2, 30, 10);
+        when(engineService.generateAiInterpretation(eq(USER_ID), any())).thenReturn(RESULT);
+
+        var submitted = jobService.submit(USER_ID, new GenerateAiInterpretationRequest("chart-1"));
+        ApiClientException ex = assertThrows(
+                ApiClientException.class,
+                () -> jobService.await("user-2", submitted.jobId(), Duration.ZERO)
+        );
+
+        assertEquals("AI_JOB_NOT_FOUND", ex.code());
+    }
+
+    private void blockUntilReleased() {
+        when(engineService.generateAiInterpretation(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return RESULT;
+        });
+    }
+
+    private void awaitStatus(String jobId, AiInterpretationJobService.Status expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (currentStatus(jobId) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private AiInterpretationJobService.Status currentStatus(String jobId) {
+        return jobService.await(USER_ID, jobId, Duration.ZERO).join().status();
+    }
+}
@@ -0,0 +1,44 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.domain.FiveElement;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DailyCategoryTest {
+
+    @Test
+    void shouldRenderEveryElementCombinationWithoutPlaceholders() {
+        for (DailyCategory category : DailyCategory.values()) {
+            for (FiveElement dominant : FiveElement.values()) {
+                for (FiveElement weak : FiveElement.values()) {
+                    for (int seed = 0; seed < 3; seed++) {
+                        String summary = category.summary(seed, dominant, weak, "신축");
+                        assertFalse(summary.contains("{"), summary);
+                    }
+                    assertFalse(DailyCategory.dailySummary(dominant.ordinal(), dominant, weak, "신축").contains("{"));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldSpliceDayPillarIntoPrerenderedSummary() {
+        String summary = DailyCategory.dailySummary(0, FiveElement.EARTH, FiveElement.WOOD, "신축");
+
+        assertEquals("오늘은 흐름을 빠르게 타는 날입니다. 토 기운이 중심이 되고, 일주(신축) 흐름상 목 기운 보완이 포인트입니다.", summary);
+    }
+
+    @Test
+    void shouldPickConsecutivePoolEntriesFromSharedLists() {
+        List<String> picks = DailyCategory.HEALTH.actions(4);
+
+        assertEquals(List.of("카페인 컵 수를 하루 1잔 줄이기", "물 2잔 먼저 마시기"), picks);
+        assertSame(picks, DailyCategory.HEALTH.actions(9));
+        assertEquals(DailyCategory.PICK_COUNT, DailyCategory.MONEY.good(-1).size());
+    }
+}
@@ -0,0 +1,106 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.infra.llm.OpenAiAnalysisClient;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailyFortunePregenerationWorkerTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2026, 2, 14);
+    private static final SupabasePersistenceService.ChartSnapshot SNAPSHOT = new SupabasePersistenceService.ChartSnapshot(
+            Map.of("year", "갑술", "month", "기사", "day", "신축", "hour", "기해"),
+            Map.of("wood", 1, "fire", 1, "earth", 4, "metal", 1, "water", 1)
+    );
+
+    private SupabasePersistenceService persistenceService;
+    private SimpleMeterRegistry meterRegistry;
+    private DailyFortunePregenerationWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        persistenceService = mock(SupabasePersistenceService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        EngineService engineService = new EngineService(persistenceService, mock(OpenAiAnalysisClient.class));
+        worker = new DailyFortunePregenerationWorker(persistenceService, engineService, meterRegistry, true, 2, 2, 60);
+        when(persistenceService.upsertDailyFortuneReports(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+    }
+
+    @Test
+    void shouldRunOnlyWhenRunIsClaimed() {
+        when(persistenceService.claimScheduledJobRun(eq("daily_fortune_pregeneration"), eq("2026-02-14"), anyString()))
+                .thenReturn(true)
+                .thenReturn(false);
+        when(persistenceService.findActiveChartsPage(EngineVersion.CURRENT, null, 2))
+                .thenReturn(List.of(chart("chart-1")));
+
+        assertEquals(1, worker.pregenerate(TARGET_DATE));
+        assertEquals(-1, worker.pregenerate(TARGET_DATE));
+
+        verify(persistenceService, times(1)).findActiveChartsPage(EngineVersion.CURRENT, null, 2);
+    }
+
+    @Test
+    void shouldPageThroughActiveChartsAndUpsertEachPage() {
+        when(persistenceService.findActiveChartsPage(EngineVersion.CURRENT, null, 2))
+                .thenReturn(List.of(chart("chart-1"), chart("chart-2")));
+        when(persistenceService.findActiveChartsPage(EngineVersion.CURRENT, "chart-2", 2))
+                .thenReturn(List.of(chart("chart-3")));
+
+        int stored = worker.run(TARGET_DATE);
+
+        assertEquals(3, stored);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SupabasePersistenceService.DailyFortuneRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(persistenceService, times(2)).upsertDailyFortuneReports(rows.capture());
+        List<String> chartIds = new ArrayList<>();
+        rows.getAllValues().forEach(page -> page.forEach(row -> {
+            chartIds.add(row.chartId());
+            assertEquals(TARGET_DATE, row.targetDate());
+            assertTrue(new String(row.contentJson(), StandardCharsets.UTF_8).contains("\"date\":\"2026-02-14\""));
+        }));
+        assertEquals(List.of("chart-1", "chart-2", "chart-3"), chartIds.stream().sorted().toList());
+        assertEquals(3.0, meterRegistry.counter("fortunelog.daily_fortune.pregeneration.generated").count());
+        assertEquals(2.0, meterRegistry.counter("fortunelog.daily_fortune.pregeneration.pages").count());
+        assertEquals(1L, meterRegistry.timer("fortunelog.daily_fortune.pregeneration.run").count());
+    }
+
+    @Test
+    void shouldCountFailedPageUpsertsAndKeepGoing() {
+        when(persistenceService.findActiveChartsPage(EngineVersion.CURRENT, null, 2))
+                .thenReturn(List.of(chart("chart-1"), chart("chart-2")));
+        when(persistenceService.findActiveChartsPage(EngineVersion.CURRENT, "chart-2", 2))
+                .thenReturn(List.of(chart("chart-3")));
+        when(persistenceService.upsertDailyFortuneReports(anyList()))
+                .thenThrow(new IllegalStateException("supabase insert failed: 503"))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        int stored = worker.run(TARGET_DATE);
+
+        assertEquals(3.0, stored + meterRegistry.counter("fortunelog.daily_fortune.pregeneration.failed").count());
+        assertEquals(2.0, meterRegistry.counter("fortunelog.daily_fortune.pregeneration.pages").count());
+    }
+
+    private static SupabasePersistenceService.ActiveChart chart(String chartId) {
+        return new SupabasePersistenceService.ActiveChart(chartId, "user-" + chartId, SNAPSHOT);
+    }
+}
@@ -0,0 +1,182 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.application.dto.GenerateAiInterpretationRequest;
+import com.fortunelog.engine.infra.llm.OpenAiAnalysisClient;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EngineServiceAiInterpretationTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String CHART_ID = "chart-1";
+    private static final String SIGNATURE = "sig-1";
+    private static final SupabasePersistenceService.ChartSnapshot SNAPSHOT = new SupabasePersistenceService.ChartSnapshot(
+            Map.of("year", "갑술", "month", "기사", "day", "신축", "hour", "기해"),
+            Map.of("wood", 1, "fire", 1, "earth", 4, "metal", 1, "water", 1)
+    );
+
+    private SupabasePersistenceService persistenceService;
+    private OpenAiAnalysisClient aiAnalysisClient;
+    private EngineService engineService;
+
+    @BeforeEach
+    void setUp() {
+        persistenceService = mock(SupabasePersistenceService.class);
+        aiAnalysisClient = mock(OpenAiAnalysisClient.class);
+        engineService = new EngineService(persistenceService, aiAnalysisClient);
+        when(persistenceService.findChartSnapshot(USER_ID, CHART_ID)).thenReturn(SNAPSHOT);
+        when(aiAnalysisClient.interpretationSignature(SNAPSHOT.chart(), SNAPSHOT.fiveElements())).thenReturn(SIGNATURE);
+    }
+
+    @Test
+    void shouldServeRepeatedInterpretationFromCacheWithoutCallingLlm() {
+        when(aiAnalysisClient.generateSajuInterpretation(anyMap(), anyMap())).thenReturn(content("openai"));
+
+        var first = engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID));
+        var second = engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID));
+
+        assertEquals(SIGNATURE, first.content().get("signature"));
+        assertEquals(first.content(), second.content());
+        verify(aiAnalysisClient, times(1)).generateSajuInterpretation(anyMap(), anyMap());
+        verify(persistenceService, times(1)).findAiInterpretation(USER_ID, CHART_ID, SIGNATURE);
+    }
+
+    @Test
+    void shouldServeStoredInterpretationWhenSignatureMatches() {
+        Map<String, Object> stored = content("openai");
+        stored.put("signature", SIGNATURE);
+        when(persistenceService.findAiInterpretation(USER_ID, CHART_ID, SIGNATURE)).thenReturn(stored);
+
+        var result = engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID));
+
+        assertEquals(stored, result.content());
+        verify(aiAnalysisClient, never()).generateSajuInterpretation(anyMap(), anyMap());
+        verify(persistenceService, never()).upsertNonDailyReport(
+                anyString(), anyString(), anyString(), anyMap(), anyBoolean(), anyBoolean()
+        );
+    }
+
+    @Test
+    void shouldCallLlmAgainWhenRegenerateIsRequested() {
+        Map<String, Object> stored = content("openai");
+        stored.put("signature", SIGNATURE);
+        when(persistenceService.findAiInterpretation(USER_ID, CHART_ID, SIGNATURE)).thenReturn(stored);
+        when(aiAnalysisClient.generateSajuInterpretation(anyMap(), anyMap())).thenReturn(content("openai"));
+
+        engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID, true));
+
+        verify(aiAnalysisClient, times(1)).generateSajuInterpretation(anyMap(), anyMap());
+        verify(persistenceService, never()).findAiInterpretation(anyString(), anyString(), anyString());
+        verify(persistenceService).upsertNonDailyReport(
+                eq(USER_ID), eq(CHART_ID), eq("ai_interpretation"), anyMap(), eq(true), eq(true)
+        );
+    }
+
+    @Test
+    void shouldNotCoalesceRegenerateWithInFlightNormalRequest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        when(aiAnalysisClient.generateSajuInterpretation(anyMap(), anyMap())).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return content("openai");
+        });
+
+        try {
+            var normal = CompletableFuture.supplyAsync(
+                    () -> engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID))
+            );
+            var regenerate = CompletableFuture.supplyAsync(
+                    () -> engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID, true))
+            );
+
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            release.countDown();
+            normal.get(5, TimeUnit.SECONDS);
+            regenerate.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+        }
+        verify(aiAnalysisClient, times(2)).generateSajuInterpretation(anyMap(), anyMap());
+    }
+
+    @Test
+    void shouldNotCacheFallbackInterpretation() {
+        when(aiAnalysisClient.generateSajuInterpretation(anyMap(), anyMap()))
+                .thenReturn(content("fallback"))
+                .thenReturn(content("openai"));
+
+        var first = engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID));
+        engineService.generateAiInterpretation(USER_ID, new GenerateAiInterpretationRequest(CHART_ID));
+
+        assertFalse(first.content().containsKey("signature"));
+        verify(aiAnalysisClient, times(2)).generateSajuInterpretation(anyMap(), anyMap());
+    }
+
+    @Test
+    void shouldForwardStoredSectionsWhenStreaming() {
+        Map<String, Object> stored = content("openai");
+        stored.put("signature", SIGNATURE);
+        when(persistenceService.findAiInterpretation(USER_ID, CHART_ID, SIGNATURE)).thenReturn(stored);
+        List<String> sections = new ArrayList<>();
+
+        var result = engineService.streamAiInterpretation(
+                USER_ID,
+                new GenerateAiInterpretationRequest(CHART_ID),
+                (name, value) -> sections.add(name)
+        );
+
+        assertEquals(stored, result.content());
+        assertEquals(List.of("summary"), sections);
+        verify(aiAnalysisClient, never()).streamSajuInterpretation(anyMap(), anyMap(), any());
+    }
+
+    @Test
+    void shouldStoreStreamedInterpretationWithSignature() {
+        when(aiAnalysisClient.streamSajuInterpretation(anyMap(), anyMap(), any())).thenReturn(content("openai"));
+
+        var result = engineService.streamAiInterpretation(
+                USER_ID,
+                new GenerateAiInterpretationRequest(CHART_ID),
+                (name, value) -> {
+                }
+        );
+
+        assertEquals(SIGNATURE, result.content().get("signature"));
+        verify(persistenceService).upsertNonDailyReport(
+                eq(USER_ID), eq(CHART_ID), eq("ai_interpretation"), anyMap(), eq(true), eq(true)
+        );
+        verify(aiAnalysisClient, never()).generateSajuInterpretation(anyMap(), anyMap());
+    }
+
+    private static Map<String, Object> content(String source) {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("summary", "요약");
+        content.put("model", "gpt-5-mini");
+        content.put("source", source);
+        return content;
+    }
+}
@@ -0,0 +1,100 @@
+package com.fortunelog.engine.application;
+
+import com.fortunelog.engine.application.dto.BatchCalculateChartRequest;
+import com.fortunelog.engine.application.dto.CalculateChartRequest;
+import com.fortunelog.engine.infra.llm.OpenAiAnalysisClient;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EngineServiceBatchChartTest {
+
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String BIRTH_1 = "aaaaaaaa-0000-0000-0000-000000000001";
+    private static final String BIRTH_2 = "aaaaaaaa-0000-0000-0000-000000000002";
+    private static final String BIRTH_3 = "aaaaaaaa-0000-0000-0000-000000000003";
+
+    private SupabasePersistenceService persistenceService;
+    private EngineService engineService;
+
+    @BeforeEach
+    void setUp() {
+        persistenceService = mock(SupabasePersistenceService.class);
+        engineService = new EngineService(persistenceService, mock(OpenAiAnalysisClient.class));
+    }
+
+    @Test
+    void shouldPersistValidItemsInOneUpsertAndReportItemErrors() {
+        when(persistenceService.upsertSajuCharts(eq(USER_ID), anyList(), eq(EngineVersion.CURRENT)))
+                .thenReturn(new SupabasePersistenceService.ChartUpsertResult(
+                        Map.of(BIRTH_1, "chart-1", BIRTH_3, "chart-3"),
+                        Map.of()
+                ));
+
+        var result = engineService.calculateCharts(USER_ID, new BatchCalculateChartRequest(List.of(
+                request(BIRTH_1, "1994-05-15", "22:18", "Asia/Seoul"),
+                request(BIRTH_2, "1994-13-40", "22:18", "Asia/Seoul"),
+                request(BIRTH_3, "1990-01-01", "10:30", "Asia/Seoul"),
+                request(BIRTH_1, "2000-01-01", "10:30", "Asia/Seoul")
+        )));
+
+        assertEquals(2, result.succeeded());
+        assertEquals(2, result.failed());
+        assertEquals("chart-1", result.items().get(0).chart().chartId());
+        assertEquals("기해", result.items().get(0).chart().chart().get("hour"));
+        assertNull(result.items().get(0).errorCode());
+        assertEquals("BIRTH_INFO_INVALID", result.items().get(1).errorCode());
+        assertEquals("chart-3", result.items().get(2).chart().chartId());
+        assertEquals("DUPLICATE_BIRTH_PROFILE", result.items().get(3).errorCode());
+
+        verify(persistenceService, times(1)).isProfileDeactivated(USER_ID);
+        verify(persistenceService, times(1)).upsertSajuCharts(eq(USER_ID), anyList(), eq(EngineVersion.CURRENT));
+    }
+
+    @Test
+    void shouldReportOnlyTheItemsStorageRejected() {
+        when(persistenceService.upsertSajuCharts(eq(USER_ID), anyList(), eq(EngineVersion.CURRENT)))
+                .thenReturn(new SupabasePersistenceService.ChartUpsertResult(
+                        Map.of(BIRTH_1, "chart-1"),
+                        Map.of(BIRTH_2, "BIRTH_PROFILE_NOT_FOUND")
+                ));
+
+        var result = engineService.calculateCharts(USER_ID, new BatchCalculateChartRequest(List.of(
+                request(BIRTH_1, "1994-05-15", "22:18", "Asia/Seoul"),
+                request(BIRTH_2, "1990-01-01", "10:30", "Asia/Seoul"),
+                request("birth-3", "1990-01-01", "10:30", "Asia/Seoul")
+        )));
+
+        assertEquals(1, result.succeeded());
+        assertEquals(2, result.failed());
+        assertEquals("chart-1", result.items().get(0).chart().chartId());
+        assertEquals("BIRTH_PROFILE_NOT_FOUND", result.items().get(1).errorCode());
+        assertEquals("BIRTH_PROFILE_INVALID", result.items().get(2).errorCode());
+    }
+
+    private CalculateChartRequest request(String birthProfileId, String birthDate, String birthTime, String timezone) {
+        return new CalculateChartRequest(
+                birthProfileId,
+                birthDate,
+                birthTime,
+                timezone,
+                "Seoul",
+                "solar",
+                false,
+                "female",
+                false
+        );
+    }
+}
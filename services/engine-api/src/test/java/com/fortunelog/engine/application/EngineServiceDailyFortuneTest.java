@@ -0,0 +1,132 @@
+package com.fortunelog.engine.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunelog.engine.application.dto.GenerateDailyFortuneRangeRequest;
+import com.fortunelog.engine.application.dto.GenerateDailyFortuneRequest;
+import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.infra.llm.OpenAiAnalysisClient;
+import com.fortunelog.engine.infra.supabase.SupabasePersistenceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EngineServiceDailyFortuneTest {
+
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+
+    private SupabasePersistenceService persistenceService;
+
+    @BeforeEach
+    void setUp() {
+        persistenceService = mock(SupabasePersistenceService.class);
+        when(persistenceService.findChartSnapshot(eq(USER_ID), any())).thenReturn(new SupabasePersistenceService.ChartSnapshot(
+                Map.of("year", "갑술", "month", "기사", "day", "신축", "hour", "기해"),
+                Map.of("wood", 1, "fire", 1, "earth", 4, "metal", 1, "water", 1)
+        ));
+    }
+
+    @Test
+    void shouldServeRepeatDeterministicRequestsFromCache() {
+        EngineService engineService = deterministicService();
+        var request = new GenerateDailyFortuneRequest("chart-1", "2026-02-13");
+
+        var first = engineService.generateDailyFortune(USER_ID, request);
+        var second = engineService.generateDailyFortune(USER_ID, request);
+
+        assertSame(first, second);
+        verify(persistenceService, times(2)).isProfileDeactivated(USER_ID);
+        verify(persistenceService, times(1)).findChartSnapshot(USER_ID, "chart-1");
+        verify(persistenceService, times(1)).upsertDailyFortuneReport(
+                eq(USER_ID), eq("chart-1"), eq(LocalDate.of(2026, 2, 13)), any(byte[].class), anyBoolean(), anyBoolean()
+        );
+    }
+
+    @Test
+    void shouldGenerateSameDeterministicFortuneOnAnotherInstance() {
+        var request = new GenerateDailyFortuneRequest("chart-1", "2026-02-13");
+
+        var first = deterministicService().generateDailyFortune(USER_ID, request);
+        var second = deterministicService().generateDailyFortune(USER_ID, request);
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void shouldNotCacheWhenDeterministicModeIsOff() {
+        EngineService engineService = new EngineService(persistenceService, mock(OpenAiAnalysisClient.class));
+        var request = new GenerateDailyFortuneRequest("chart-1", "2026-02-13");
+
+        engineService.generateDailyFortune(USER_ID, request);
+        engineService.generateDailyFortune(USER_ID, request);
+
+        verify(persistenceService, times(2)).findChartSnapshot(USER_ID, "chart-1");
+    }
+
+    @Test
+    void shouldServePregeneratedFortuneWithoutRegenerating() {
+        EngineService engineService = new EngineService(
+                persistenceService, mock(OpenAiAnalysisClient.class), new SimpleMeterRegistry(), new ObjectMapper(), 100, 3600, false, 100, true, 100
+        );
+        var stored = engineService.composeDailyFortune(
+                USER_ID, "chart-1", persistenceService.findChartSnapshot(USER_ID, "chart-1"), LocalDate.of(2026, 2, 13)
+        );
+        when(persistenceService.findDailyFortune(USER_ID, "chart-1", LocalDate.of(2026, 2, 13))).thenReturn(stored);
+
+        var result = engineService.generateDailyFortune(USER_ID, new GenerateDailyFortuneRequest("chart-1", "2026-02-13"));
+
+        assertSame(stored, result);
+        verify(persistenceService, never()).upsertDailyFortuneReport(
+                any(), any(), any(), any(byte[].class), anyBoolean(), anyBoolean()
+        );
+    }
+
+    @Test
+    void shouldComputeMonthRangeWithOneSnapshotReadAndOneUpsert() {
+        EngineService engineService = new EngineService(persistenceService, mock(OpenAiAnalysisClient.class));
+
+        var result = engineService.generateDailyFortuneRange(
+                USER_ID, new GenerateDailyFortuneRangeRequest("chart-1", "2026-03-01", "2026-03-31")
+        );
+
+        assertEquals(31, result.days().size());
+        assertEquals(LocalDate.of(2026, 3, 1), result.days().get(0).date());
+        assertEquals(LocalDate.of(2026, 3, 31), result.days().get(30).date());
+        verify(persistenceService, times(1)).isProfileDeactivated(USER_ID);
+        verify(persistenceService, times(1)).findChartSnapshot(USER_ID, "chart-1");
+        verify(persistenceService, times(1)).upsertDailyFortuneReports(argThat(rows -> rows.size() == 31));
+    }
+
+    @Test
+    void shouldRejectRangesLongerThanAMonth() {
+        EngineService engineService = new EngineService(persistenceService, mock(OpenAiAnalysisClient.class));
+
+        var error = assertThrows(ApiClientException.class, () -> engineService.generateDailyFortuneRange(
+                USER_ID, new GenerateDailyFortuneRangeRequest("chart-1", "2026-03-01", "2026-04-01")
+        ));
+
+        assertEquals("DATE_RANGE_INVALID", error.code());
+        verify(persistenceService, never()).findChartSnapshot(any(), any());
+    }
+
+    private EngineService deterministicService() {
+        return new EngineService(
+                persistenceService, mock(OpenAiAnalysisClient.class), new SimpleMeterRegistry(), new ObjectMapper(), 100, 3600, true, 100, false, 100
+        );
+    }
+}
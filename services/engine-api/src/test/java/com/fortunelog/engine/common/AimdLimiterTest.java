@@ -0,0 +1,79 @@
+package com.fortunelog.engine.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AimdLimiterTest {
+
+    @Test
+    void shouldRejectImmediatelyWhenLimitReachedAndQueueDisabled() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 4, 0, Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+        AimdLimiter.Permit first = limiter.tryAcquire();
+        AimdLimiter.Permit second = limiter.tryAcquire();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(limiter.tryAcquire());
+        first.close();
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    void shouldGrowOnFastCallsAndShrinkOnDroppedCalls() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 4, 0, Duration.ZERO, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire().succeeded(10, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(4.0, limiter.limit());
+
+        limiter.tryAcquire().dropped();
+        assertEquals(3.6, limiter.limit(), 1e-9);
+
+        limiter.tryAcquire().succeeded(5, TimeUnit.SECONDS);
+        assertEquals(3.24, limiter.limit(), 1e-9);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().dropped();
+        }
+        assertEquals(1.0, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void shouldHandQueuedCallerTheReleasedPermit() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+        AimdLimiter.Permit held = limiter.tryAcquire();
+
+        CompletableFuture<AimdLimiter.Permit> queued = CompletableFuture.supplyAsync(limiter::tryAcquire);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.waiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertNull(limiter.tryAcquire());
+        held.close();
+
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxWait() {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 1, 1, Duration.ofMillis(20), Duration.ofSeconds(1));
+        limiter.tryAcquire();
+
+        long startedAt = System.nanoTime();
+        assertNull(limiter.tryAcquire());
+        assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(0, limiter.waiting());
+    }
+}
@@ -0,0 +1,63 @@
+package com.fortunelog.engine.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BoundedCacheTest {
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, Duration.ZERO);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, Duration.ofSeconds(60), now::get);
+        cache.put("a", 1);
+
+        now.set(Duration.ofSeconds(59).toNanos());
+        assertEquals(1, cache.get("a"));
+
+        now.set(Duration.ofSeconds(60).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldNotStoreAnythingWhenDisabled() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(0, Duration.ofSeconds(60));
+        cache.put("a", 1);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldInvalidateMatchingKeys() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, Duration.ZERO);
+        cache.put("user-1|a", 1);
+        cache.put("user-1|b", 2);
+        cache.put("user-2|a", 3);
+
+        cache.invalidateIf(key -> key.startsWith("user-1|"));
+
+        assertNull(cache.get("user-1|a"));
+        assertNull(cache.get("user-1|b"));
+        assertEquals(3, cache.get("user-2|a"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.fortunelog.engine.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(
+            meterRegistry, "test", 4, 4, 50, Duration.ofSeconds(10), 2, clock::get
+    );
+
+    @Test
+    void shouldStayClosedUntilMinimumCallsAreRecorded() {
+        fail(3);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void shouldOpenWhenFailureRateReachesThresholdAndRejectCalls() {
+        succeed(2);
+        fail(2);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1.0, meterRegistry.counter("fortunelog.circuit_breaker.rejected", "name", "test").count());
+        assertEquals(1.0, meterRegistry.get("fortunelog.circuit_breaker.state").tag("name", "test").gauge().value());
+    }
+
+    @Test
+    void shouldOnlyCountTheLastWindowOfCalls() {
+        fail(1);
+        succeed(4);
+        fail(1);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void shouldCloseAfterProbesSucceed() {
+        fail(4);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(1.0, transitions("closed"));
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        fail(4);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2.0, transitions("open"));
+        assertEquals(1.0, transitions("half_open"));
+    }
+
+    @Test
+    void shouldReleaseProbeSlotWhenCallIsIgnored() {
+        fail(4);
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        breaker.onIgnored();
+
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void succeed(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onSuccess();
+        }
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+    }
+
+    private double transitions(String state) {
+        return meterRegistry.counter("fortunelog.circuit_breaker.transitions", "name", "test", "state", state).count();
+    }
+}
@@ -0,0 +1,35 @@
+package com.fortunelog.engine.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentETagTest {
+
+    @Test
+    void shouldDeriveStableStrongTagFromContentBytes() {
+        String etag = ContentETag.of("{\"score\":74}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(66, etag.length());
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals(etag, ContentETag.of("{\"score\":74}".getBytes(StandardCharsets.UTF_8)));
+        assertNotEquals(etag, ContentETag.of("{\"score\":75}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldMatchIfNoneMatchListsWildcardsAndWeakTags() {
+        String etag = ContentETag.of(new byte[]{1, 2, 3});
+
+        assertTrue(ContentETag.matches(etag, etag));
+        assertTrue(ContentETag.matches("\"other\", " + etag, etag));
+        assertTrue(ContentETag.matches("W/" + etag, etag));
+        assertTrue(ContentETag.matches("*", etag));
+        assertFalse(ContentETag.matches("\"other\"", etag));
+        assertFalse(ContentETag.matches(null, etag));
+    }
+}
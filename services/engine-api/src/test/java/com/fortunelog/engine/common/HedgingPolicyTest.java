@@ -0,0 +1,63 @@
+package com.fortunelog.engine.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgingPolicyTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void shouldNotHedgeUntilMinimumSamplesAreRecorded() {
+        HedgingPolicy policy = new HedgingPolicy(90, 10, 3, Duration.ZERO, 10, clock::get);
+        policy.recordLatency(100, TimeUnit.MILLISECONDS);
+        policy.recordLatency(200, TimeUnit.MILLISECONDS);
+
+        assertEquals(-1, policy.hedgeDelayNanos());
+
+        policy.recordLatency(300, TimeUnit.MILLISECONDS);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(300), policy.hedgeDelayNanos());
+    }
+
+    @Test
+    void shouldUsePercentileOfRecentLatencies() {
+        HedgingPolicy policy = new HedgingPolicy(90, 10, 1, Duration.ZERO, 10, clock::get);
+        for (int i = 1; i <= 10; i++) {
+            policy.recordLatency(i * 100L, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(900), policy.hedgeDelayNanos());
+
+        // Only the last windowSize samples count.
+        for (int i = 0; i < 10; i++) {
+            policy.recordLatency(50, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), policy.hedgeDelayNanos());
+    }
+
+    @Test
+    void shouldNotHedgeEarlierThanMinDelay() {
+        HedgingPolicy policy = new HedgingPolicy(90, 10, 1, Duration.ofSeconds(1), 10, clock::get);
+        policy.recordLatency(100, TimeUnit.MILLISECONDS);
+
+        assertEquals(TimeUnit.SECONDS.toNanos(1), policy.hedgeDelayNanos());
+    }
+
+    @Test
+    void shouldCapHedgesPerMinute() {
+        HedgingPolicy policy = new HedgingPolicy(90, 10, 1, Duration.ZERO, 2, clock::get);
+
+        assertTrue(policy.tryAcquireHedge());
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertTrue(policy.tryAcquireHedge());
+    }
+}
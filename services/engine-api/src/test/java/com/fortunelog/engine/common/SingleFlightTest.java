@@ -0,0 +1,117 @@
+package com.fortunelog.engine.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> flights;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flights = new SingleFlight<>(meterRegistry, "test");
+    }
+
+    @Test
+    void shouldShareOneExecutionBetweenConcurrentCallers() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> flights.execute("key", () -> {
+                runs.incrementAndGet();
+                await(release);
+                return "value";
+            }));
+            awaitInFlight();
+            Future<String> follower = executor.submit(() -> flights.execute("key", () -> {
+                runs.incrementAndGet();
+                return "other";
+            }));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, runs.get());
+        assertEquals(0, flights.inFlightCount());
+        assertEquals(1.0, count("executed"));
+        assertEquals(1.0, count("coalesced"));
+    }
+
+    @Test
+    void shouldShareLeaderExceptionWithWaiters() throws Exception {
+        IllegalStateException failure = new IllegalStateException("upstream failed");
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> leader = executor.submit(() -> flights.execute("key", () -> {
+                await(release);
+                throw failure;
+            }));
+            awaitInFlight();
+            Future<Throwable> follower = executor.submit(() -> assertThrows(
+                    IllegalStateException.class,
+                    () -> flights.execute("key", () -> "other")
+            ));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertSame(failure, follower.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(0, flights.inFlightCount());
+    }
+
+    @Test
+    void shouldRunAgainOnceThePreviousCallCompleted() {
+        assertEquals("first", flights.execute("key", () -> "first"));
+        assertEquals("second", flights.execute("key", () -> "second"));
+
+        assertEquals(2.0, count("executed"));
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter("fortunelog.singleflight.calls", "name", "test", "outcome", outcome).count();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.inFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitCoalesced(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.fortunelog.engine.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FiveElementCountsTest {
+
+    @Test
+    void shouldMatchSajuChartCodeForCalculatedChart() {
+        long code = new SajuCalculator().calculateCode(LocalDateTime.of(1994, 5, 15, 22, 18), false);
+
+        FiveElementCounts fromCode = FiveElementCounts.fromCode(code);
+        FiveElementCounts fromMap = FiveElementCounts.fromMap(SajuChartCode.toFiveElementsMap(code));
+
+        assertEquals(FiveElement.of(SajuChartCode.dominantElement(code)), fromMap.dominant());
+        assertEquals(FiveElement.of(SajuChartCode.weakestElement(code)), fromMap.weakest());
+        assertEquals(fromCode.toMap(), fromMap.toMap());
+        assertEquals(4, fromMap.count(FiveElement.EARTH));
+    }
+
+    @Test
+    void shouldResolveTiesToEarlierElementAndIgnoreUnknownKeys() {
+        Map<String, Integer> stored = new HashMap<>();
+        stored.put("water", 3);
+        stored.put("fire", 3);
+        stored.put("metal", null);
+        stored.put("aether", 9);
+
+        FiveElementCounts counts = FiveElementCounts.fromMap(stored);
+
+        assertEquals(FiveElement.FIRE, counts.dominant());
+        assertEquals(FiveElement.WOOD, counts.weakest());
+        assertEquals(0, counts.count(FiveElement.METAL));
+        assertEquals(FiveElement.WATER, FiveElement.fromKey("water"));
+    }
+}
@@ -6,6 +6,7 @@ import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LunarDateConverterTest {
 
@@ -43,4 +44,62 @@ class LunarDateConverterTest {
                 converter.toSolarDate(1899, 1, 1, false)
         );
     }
+
+    @Test
+    void shouldMapEveryLunarDayToConsecutiveSolarDays() {
+        // Walk every valid lunar date in calendar order (leap month after its regular month);
+        // each must land exactly one solar day after the previous one.
+        LocalDate expected = LocalDate.of(1900, 1, 31);
+        for (int year = 1900; year <= 2099; year++) {
+            for (int month = 1; month <= 12; month++) {
+                expected = assertConsecutiveMonth(year, month, false, expected);
+                if (isValid(year, month, 1, true)) {
+                    expected = assertConsecutiveMonth(year, month, true, expected);
+                }
+            }
+        }
+        assertEquals(LocalDate.of(2100, 2, 9), expected);
+    }
+
+    @Test
+    void shouldConvertKnownSolarDatesToLunarDates() {
+        assertEquals(new LunarDateConverter.LunarDate(2024, 1, 1, false), converter.toLunarDate(LocalDate.of(2024, 2, 10)));
+        assertEquals(new LunarDateConverter.LunarDate(2020, 4, 1, true), converter.toLunarDate(LocalDate.of(2020, 5, 23)));
+        assertEquals(new LunarDateConverter.LunarDate(1900, 1, 1, false), converter.toLunarDate(LocalDate.of(1900, 1, 31)));
+    }
+
+    @Test
+    void shouldRoundTripEverySupportedSolarDate() {
+        LocalDate end = LocalDate.of(2100, 2, 9);
+        for (LocalDate date = LocalDate.of(1900, 1, 31); date.isBefore(end); date = date.plusDays(1)) {
+            var lunar = converter.toLunarDate(date);
+            assertEquals(date, converter.toSolarDate(lunar.year(), lunar.month(), lunar.day(), lunar.leapMonth()));
+        }
+    }
+
+    @Test
+    void shouldRejectSolarDateOutsideSupportedRange() {
+        assertThrows(IllegalArgumentException.class, () -> converter.toLunarDate(LocalDate.of(1900, 1, 30)));
+        assertThrows(IllegalArgumentException.class, () -> converter.toLunarDate(LocalDate.of(2100, 2, 9)));
+    }
+
+    private LocalDate assertConsecutiveMonth(int year, int month, boolean leap, LocalDate expected) {
+        int day = 1;
+        while (day <= 30 && isValid(year, month, day, leap)) {
+            assertEquals(expected, converter.toSolarDate(year, month, day, leap));
+            expected = expected.plusDays(1);
+            day++;
+        }
+        assertTrue(day >= 30, "lunar month must have 29 or 30 days");
+        return expected;
+    }
+
+    private boolean isValid(int year, int month, int day, boolean leap) {
+        try {
+            converter.toSolarDate(year, month, day, leap);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
 }
@@ -13,13 +13,14 @@ class SajuCalculatorTest {
 
     @Test
     void shouldUsePreviousYearPillarBeforeIpchunBoundary() {
+        // 2026 입춘: 2026-02-04 05:02 KST
         SajuCalculator.SajuChart before = calculator.calculate(
-                LocalDateTime.of(2026, 2, 4, 9, 59),
+                LocalDateTime.of(2026, 2, 4, 5, 1),
                 false
         );
 
         SajuCalculator.SajuChart after = calculator.calculate(
-                LocalDateTime.of(2026, 2, 4, 10, 0),
+                LocalDateTime.of(2026, 2, 4, 5, 2),
                 false
         );
 
@@ -51,4 +52,30 @@ class SajuCalculatorTest {
         assertEquals("신축", chart.chart().get("day"));
         assertEquals("기해", chart.chart().get("hour"));
     }
+
+    @Test
+    void shouldDeriveHourPillarFromDayStem() {
+        // 신축일: hour stems start at 무 for 자시; 23시 is still today's 자시
+        assertEquals("무자", calculator.calculate(LocalDateTime.of(1994, 5, 15, 0, 30), false).chart().get("hour"));
+        assertEquals("기축", calculator.calculate(LocalDateTime.of(1994, 5, 15, 1, 0), false).chart().get("hour"));
+        assertEquals("기해", calculator.calculate(LocalDateTime.of(1994, 5, 15, 21, 59), false).chart().get("hour"));
+        assertEquals("무자", calculator.calculate(LocalDateTime.of(1994, 5, 15, 23, 0), false).chart().get("hour"));
+    }
+
+    @Test
+    void shouldMatchSingleCalculationsWhenCalculatingInBatch() {
+        int size = 600;
+        LocalDateTime[] birthDateTimes = new LocalDateTime[size];
+        boolean[] unknownBirthTimes = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            birthDateTimes[i] = LocalDateTime.of(1950, 1, 1, 0, 0).plusHours(i * 1_013L);
+            unknownBirthTimes[i] = i % 7 == 0;
+        }
+
+        long[] codes = calculator.calculateAll(birthDateTimes, unknownBirthTimes);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(calculator.calculateCode(birthDateTimes[i], unknownBirthTimes[i]), codes[i]);
+        }
+    }
 }
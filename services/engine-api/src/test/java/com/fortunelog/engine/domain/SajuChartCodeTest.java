@@ -0,0 +1,63 @@
+package com.fortunelog.engine.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SajuChartCodeTest {
+
+    private final SajuCalculator calculator = new SajuCalculator();
+
+    @Test
+    void shouldMapEveryCycleIndexToItsStemAndBranch() {
+        for (int cycleIndex = 0; cycleIndex < 60; cycleIndex++) {
+            int stem = SajuChartCode.stemIndex(cycleIndex);
+            int branch = SajuChartCode.branchIndex(cycleIndex);
+            assertEquals(cycleIndex, SajuChartCode.cycleIndex(stem, branch));
+        }
+    }
+
+    @Test
+    void shouldPackPillarsAndFiveElementsIntoSingleLong() {
+        // 1994-05-15 22:18 KST => 갑술 / 기사 / 신축 / 기해
+        long code = calculator.calculateCode(LocalDateTime.of(1994, 5, 15, 22, 18), false);
+
+        assertEquals("갑술", SajuChartCode.pillarName(code, SajuChartCode.YEAR));
+        assertEquals("기사", SajuChartCode.pillarName(code, SajuChartCode.MONTH));
+        assertEquals("신축", SajuChartCode.pillarName(code, SajuChartCode.DAY));
+        assertEquals("기해", SajuChartCode.pillarName(code, SajuChartCode.HOUR));
+        assertEquals(
+                Map.of("wood", 1, "fire", 1, "earth", 4, "metal", 1, "water", 1),
+                SajuChartCode.toFiveElementsMap(code)
+        );
+        assertEquals(SajuChartCode.EARTH, SajuChartCode.dominantElement(code));
+        assertEquals(SajuChartCode.WOOD, SajuChartCode.weakestElement(code));
+    }
+
+    @Test
+    void shouldRoundTripThroughStoredMapShape() {
+        long code = calculator.calculateCode(LocalDateTime.of(2026, 9, 1, 12, 0), true);
+
+        Map<String, String> chart = SajuChartCode.toChartMap(code);
+        Map<String, Integer> fiveElements = SajuChartCode.toFiveElementsMap(code);
+
+        assertEquals("미상", chart.get("hour"));
+        assertFalse(SajuChartCode.isKnown(SajuChartCode.pillar(code, SajuChartCode.HOUR)));
+        assertEquals(code, SajuChartCode.fromMaps(chart, fiveElements));
+    }
+
+    @Test
+    void shouldTreatMissingOrUnknownStoredValuesAsUnknown() {
+        long code = SajuChartCode.fromMaps(Map.of("year", "갑자", "day", "??"), Map.of("water", 2));
+
+        assertEquals("갑자", SajuChartCode.pillarName(code, SajuChartCode.YEAR));
+        assertEquals("미상", SajuChartCode.pillarName(code, SajuChartCode.MONTH));
+        assertEquals("미상", SajuChartCode.pillarName(code, SajuChartCode.DAY));
+        assertEquals(2, SajuChartCode.elementCount(code, SajuChartCode.WATER));
+        assertEquals(SajuChartCode.WATER, SajuChartCode.dominantElement(code));
+    }
+}
@@ -0,0 +1,91 @@
+package com.fortunelog.engine.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SolarTermTableTest {
+
+    private static final int SOHAN = 0;
+    private static final int IPCHUN = 2;
+    private static final int CHUNBUN = 5;
+    private static final int DONGJI = 23;
+
+    @Test
+    void shouldMatchPublishedSolarTermTimesInKst() {
+        // KASI published times (KST, minute precision)
+        assertEquals(minute(2024, 2, 4, 17, 27), SolarTermTable.termsOf(2024)[IPCHUN]);
+        assertEquals(minute(2025, 2, 3, 23, 10), SolarTermTable.termsOf(2025)[IPCHUN]);
+        assertEquals(minute(2026, 2, 4, 5, 2), SolarTermTable.termsOf(2026)[IPCHUN]);
+        assertEquals(minute(2000, 3, 20, 16, 35), SolarTermTable.termsOf(2000)[CHUNBUN]);
+        assertEquals(minute(2024, 3, 20, 12, 6), SolarTermTable.termsOf(2024)[CHUNBUN]);
+        assertEquals(minute(2024, 12, 21, 18, 20), SolarTermTable.termsOf(2024)[DONGJI]);
+    }
+
+    @Test
+    void shouldCacheTermsPerYear() {
+        assertSame(SolarTermTable.termsOf(1994), SolarTermTable.termsOf(1994));
+        assertEquals(SolarTermTable.TERMS_PER_YEAR, SolarTermTable.termsOf(1994).length);
+    }
+
+    @Test
+    void shouldSwitchMonthAndYearExactlyAtIpchunBoundary() {
+        int before = position(LocalDateTime.of(2026, 2, 4, 5, 1));
+        int at = position(LocalDateTime.of(2026, 2, 4, 5, 2));
+
+        assertEquals(2025, SolarTermTable.sajuYear(before));
+        assertEquals(12, SolarTermTable.monthOrder(before));
+        assertEquals(2026, SolarTermTable.sajuYear(at));
+        assertEquals(1, SolarTermTable.monthOrder(at));
+    }
+
+    @Test
+    void shouldMapMonthOpeningTermsToMonthOrder() {
+        long sohan2025 = SolarTermTable.termsOf(2025)[SOHAN];
+
+        assertEquals(4, SolarTermTable.monthOrder(position(LocalDateTime.of(1994, 5, 15, 22, 18))));
+        assertEquals(11, SolarTermTable.monthOrder(position(LocalDateTime.of(1994, 12, 31, 23, 59))));
+        assertEquals(11, SolarTermTable.monthOrder(SolarTermTable.position(sohan2025 - 1)));
+        assertEquals(12, SolarTermTable.monthOrder(SolarTermTable.position(sohan2025)));
+        assertEquals(2024, SolarTermTable.sajuYear(SolarTermTable.position(sohan2025)));
+    }
+
+    @Test
+    void shouldComputeYearsOutsideCachedRangeOnDemand() {
+        int below = position(LocalDateTime.of(1899, 1, 20, 12, 0));
+        int above = position(LocalDateTime.of(2101, 8, 20, 12, 0));
+
+        assertEquals(1898, SolarTermTable.sajuYear(below));
+        assertEquals(12, SolarTermTable.monthOrder(below));
+        assertEquals(2101, SolarTermTable.sajuYear(above));
+        assertEquals(7, SolarTermTable.monthOrder(above));
+    }
+
+    @Test
+    void shouldCompareHistoricalKoreanWallTimesOnTheInstant() {
+        // Seoul was UTC+08:30 in 1960: 20 wall-clock minutes before the UTC+9 입춘 time is already 10 minutes past it.
+        long ipchun1960 = SolarTermTable.termsOf(1960)[IPCHUN];
+        LocalDateTime wallTime = LocalDateTime.ofEpochSecond((ipchun1960 - 20) * 60, 0, ZoneOffset.UTC);
+
+        int birth = SolarTermTable.position(SolarTermTable.birthEpochMinute(wallTime));
+        assertEquals(1960, SolarTermTable.sajuYear(birth));
+        assertEquals(1, SolarTermTable.monthOrder(birth));
+        assertEquals(12, SolarTermTable.monthOrder(position(wallTime)));
+
+        // Since 1988 the wall time is UTC+9 and both frames agree.
+        LocalDateTime modern = LocalDateTime.of(2024, 2, 4, 17, 26);
+        assertEquals(SolarTermTable.epochMinute(modern), SolarTermTable.birthEpochMinute(modern));
+    }
+
+    private int position(LocalDateTime dateTime) {
+        return SolarTermTable.position(SolarTermTable.epochMinute(dateTime));
+    }
+
+    private long minute(int year, int month, int day, int hour, int minute) {
+        return SolarTermTable.epochMinute(LocalDateTime.of(year, month, day, hour, minute));
+    }
+}
@@ -0,0 +1,74 @@
+package com.fortunelog.engine.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeZoneNormalizerTest {
+
+    private final TimeZoneNormalizer normalizer = new TimeZoneNormalizer();
+
+    @Test
+    void shouldApplyHistoricalKoreanOffsets() {
+        // 1955: Korea used +08:30, so Seoul wall-clock time is already KST wall-clock time.
+        assertEquals(
+                LocalDateTime.of(1955, 3, 1, 10, 0),
+                normalizer.toKst(LocalDateTime.of(1955, 3, 1, 10, 0), "Asia/Seoul")
+        );
+        // Tokyo 10:00 (+09:00) is 09:30 in Seoul at +08:30.
+        assertEquals(
+                LocalDateTime.of(1955, 3, 1, 9, 30),
+                normalizer.toKst(LocalDateTime.of(1955, 3, 1, 10, 0), "Asia/Tokyo")
+        );
+        // 1988 summer: Seoul observed DST (+10:00), so UTC 00:00 is 10:00 in Seoul.
+        assertEquals(
+                LocalDateTime.of(1988, 7, 1, 10, 0),
+                normalizer.toKst(LocalDateTime.of(1988, 7, 1, 0, 0), "UTC")
+        );
+    }
+
+    @Test
+    void shouldMatchZonedDateTimeAcrossHistoryIncludingGapsAndOverlaps() {
+        String[] zones = {"Asia/Seoul", "America/New_York", "Europe/London", "Australia/Lord_Howe", "Asia/Kolkata", "+05:45"};
+        for (String zone : zones) {
+            // Every 97 minutes from 1900 to 2060 hits each DST gap/overlap region many times over.
+            for (LocalDateTime local = LocalDateTime.of(1900, 1, 1, 0, 7);
+                 local.getYear() < 2060;
+                 local = local.plusMinutes(97)) {
+                assertEquals(reference(local, zone), normalizer.toKst(local, zone), zone + " " + local);
+            }
+        }
+    }
+
+    @Test
+    void shouldResolveKoreanDstGapAndOverlapLikeZonedDateTime() {
+        // 1987-05-10 02:00 -> 03:00 (gap), 1987-10-11 03:00 -> 02:00 (overlap)
+        for (int minute = 0; minute < 24 * 60; minute += 15) {
+            LocalDateTime gapDay = LocalDateTime.of(1987, 5, 10, 0, 0).plusMinutes(minute);
+            LocalDateTime overlapDay = LocalDateTime.of(1987, 10, 11, 0, 0).plusMinutes(minute);
+            assertEquals(reference(gapDay, "UTC"), normalizer.toKst(gapDay, "UTC"));
+            assertEquals(reference(gapDay, "Asia/Seoul"), normalizer.toKst(gapDay, "Asia/Seoul"));
+            assertEquals(reference(overlapDay, "Asia/Seoul"), normalizer.toKst(overlapDay, "Asia/Seoul"));
+        }
+    }
+
+    @Test
+    void shouldFallBackOutsideTableRange() {
+        LocalDateTime local = LocalDateTime.of(1800, 6, 1, 12, 0);
+        assertEquals(reference(local, "Europe/Paris"), normalizer.toKst(local, "Europe/Paris"));
+    }
+
+    @Test
+    void shouldRejectUnknownZone() {
+        assertThrows(DateTimeException.class, () -> normalizer.toKst(LocalDateTime.of(2000, 1, 1, 0, 0), "Mars/Olympus"));
+    }
+
+    private LocalDateTime reference(LocalDateTime local, String zone) {
+        return local.atZone(ZoneId.of(zone)).withZoneSameInstant(TimeZoneNormalizer.KST).toLocalDateTime();
+    }
+}
@@ -0,0 +1,48 @@
+package com.fortunelog.engine.infra.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonSectionScannerTest {
+
+    private static final String JSON = "{\"summary\":\"a, \\\"quoted\\\" {not nested}\","
+            + "\"coreTraits\":[\"x\",\"y\"],"
+            + "\"themes\":{\"money\":\"m\",\"health\":\"h\"},"
+            + "\"disclaimer\":\"d\"}";
+
+    @Test
+    void shouldEmitEachTopLevelMemberOnceItIsComplete() {
+        JsonSectionScanner scanner = new JsonSectionScanner(new ObjectMapper());
+        List<String> names = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+
+        for (char c : JSON.toCharArray()) {
+            for (Map.Entry<String, Object> section : scanner.append(String.valueOf(c))) {
+                names.add(section.getKey());
+                values.add(section.getValue());
+            }
+        }
+
+        assertEquals(List.of("summary", "coreTraits", "themes", "disclaimer"), names);
+        assertEquals("a, \"quoted\" {not nested}", values.get(0));
+        assertEquals(List.of("x", "y"), values.get(1));
+        assertEquals(Map.of("money", "m", "health", "h"), values.get(2));
+        assertEquals(JSON, scanner.text());
+    }
+
+    @Test
+    void shouldNotEmitMemberBeforeItsValueIsTerminated() {
+        JsonSectionScanner scanner = new JsonSectionScanner(new ObjectMapper());
+
+        assertTrue(scanner.append("{\"summary\":\"partial").isEmpty());
+        assertTrue(scanner.append(" text\"").isEmpty());
+        assertEquals("summary", scanner.append(",\"coreTraits\":[").get(0).getKey());
+    }
+}
@@ -1,18 +1,32 @@
 package com.fortunelog.engine.infra.llm;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunelog.engine.common.AimdLimiter;
 import com.fortunelog.engine.common.ApiClientException;
+import com.fortunelog.engine.common.CircuitBreaker;
+import com.fortunelog.engine.common.HedgingPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OpenAiAnalysisClientTest {
@@ -171,4 +185,440 @@ class OpenAiAnalysisClientTest {
         assertTrue(result.containsKey("summary"));
         assertTrue(result.containsKey("themes"));
     }
+
+    @Test
+    void shouldSpliceChartIntoPreSerializedRequest() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(objectMapper, "test-key", "gpt-5-mini", "http://localhost", 5000);
+        Map<String, Integer> fiveElements = Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2);
+
+        byte[] body = client.renderRequestBody(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘", "name", "홍\"길동"),
+                fiveElements,
+                false,
+                false
+        );
+        byte[] other = client.renderRequestBody(
+                Map.of("year", "을축", "month", "병인", "day", "정묘", "hour", "무진"),
+                fiveElements,
+                false,
+                false
+        );
+
+        JsonNode root = objectMapper.readTree(body);
+        assertEquals("gpt-5-mini", root.path("model").asText());
+        assertEquals("system", root.at("/messages/0/role").asText());
+        assertEquals("user", root.at("/messages/1/role").asText());
+        assertTrue(root.at("/messages/1/content").asText().contains("-성함 : 홍\"길동"));
+        assertEquals(3600, root.path("max_completion_tokens").asInt());
+        assertEquals(
+                OpenAiAnalysisClient.SECTIONS,
+                objectMapper.convertValue(root.at("/response_format/json_schema/schema/required"), List.class)
+        );
+        // Everything before the user message is byte-identical between charts.
+        String userMessage = "{\"role\":\"user\"";
+        String text = new String(body, StandardCharsets.UTF_8);
+        String otherText = new String(other, StandardCharsets.UTF_8);
+        assertEquals(text.substring(0, text.indexOf(userMessage)), otherText.substring(0, otherText.indexOf(userMessage)));
+
+        JsonNode streamed = objectMapper.readTree(client.renderRequestBody(Map.of(), fiveElements, false, true));
+        assertTrue(streamed.path("stream").asBoolean());
+        assertEquals(1800, objectMapper.readTree(client.renderRequestBody(Map.of(), fiveElements, true, false))
+                .path("max_completion_tokens").asInt());
+    }
+
+    @Test
+    void shouldChangeInterpretationSignatureWithChartAndModel() {
+        Map<String, String> chart = Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘");
+        Map<String, Integer> fiveElements = Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2);
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(new ObjectMapper(), "test-key", "gpt-5-mini", "http://localhost", 5000);
+        OpenAiAnalysisClient otherModel = new OpenAiAnalysisClient(new ObjectMapper(), "test-key", "gpt-5", "http://localhost", 5000);
+
+        String signature = client.interpretationSignature(chart, fiveElements);
+
+        assertEquals(signature, client.interpretationSignature(Map.copyOf(chart), Map.copyOf(fiveElements)));
+        assertNotEquals(signature, otherModel.interpretationSignature(chart, fiveElements));
+        // The signature follows the normalized model that requests are actually sent with.
+        assertEquals(signature, new OpenAiAnalysisClient(new ObjectMapper(), "test-key", null, "http://localhost", 5000)
+                .interpretationSignature(chart, fiveElements));
+        assertEquals(signature, new OpenAiAnalysisClient(new ObjectMapper(), "test-key", " gpt-5-mini ", "http://localhost", 5000)
+                .interpretationSignature(chart, fiveElements));
+        assertNotEquals(signature, client.interpretationSignature(
+                chart,
+                Map.of("wood", 3, "fire", 1, "earth", 2, "metal", 1, "water", 1)
+        ));
+    }
+
+    @Test
+    void shouldForwardSectionsWhileStreamingAndReturnAssembledResult() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String content = "{\"summary\":\"요약\",\"coreTraits\":[\"성향1\"],\"strengths\":[\"강점1\"],"
+                + "\"cautions\":[\"주의1\"],\"themes\":{\"money\":\"m\",\"relationship\":\"r\",\"career\":\"c\","
+                + "\"health\":\"h\"},\"actionTips\":[\"실행1\"],\"disclaimer\":\"d\"}";
+        StringBuilder events = new StringBuilder();
+        for (int start = 0; start < content.length(); start += 7) {
+            String delta = content.substring(start, Math.min(start + 7, content.length()));
+            events.append("data: ")
+                    .append(objectMapper.writeValueAsString(
+                            Map.of("choices", List.of(Map.of("delta", Map.of("content", delta))))
+                    ))
+                    .append("\n\n");
+        }
+        events.append("data: [DONE]\n\n");
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody(events.toString()));
+
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                objectMapper,
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000
+        );
+        List<String> sections = new ArrayList<>();
+
+        Map<String, Object> result = client.streamSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2),
+                (name, value) -> sections.add(name)
+        );
+
+        assertEquals(OpenAiAnalysisClient.SECTIONS, sections);
+        assertEquals("요약", result.get("summary"));
+        assertEquals("openai", result.get("source"));
+        assertTrue(server.takeRequest().getBody().readUtf8().contains("\"stream\":true"));
+    }
+
+    @Test
+    void shouldNotCountConsumerFailureAgainstOpenAi() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody(streamBody(objectMapper, "{\"summary\":\"요약\",\"coreTraits\":[\"성향1\"]}")));
+        AimdLimiter limiter = new AimdLimiter(4, 1, 8, 0, Duration.ZERO, Duration.ofSeconds(20));
+        CircuitBreaker breaker = new CircuitBreaker(new SimpleMeterRegistry(), "openai", 1, 1, 50, Duration.ofMinutes(1), 1);
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                objectMapper,
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000,
+                limiter,
+                breaker,
+                true,
+                new SimpleMeterRegistry()
+        );
+        List<String> sections = new ArrayList<>();
+
+        assertThrows(UncheckedIOException.class, () -> client.streamSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2),
+                (name, value) -> {
+                    sections.add(name);
+                    throw new UncheckedIOException(new IOException("client disconnected"));
+                }
+        ));
+
+        assertEquals(List.of("summary"), sections);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(4.0, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void shouldTimeOutStreamThatStallsMidBody() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String firstEvent = "data: " + objectMapper.writeValueAsString(
+                Map.of("choices", List.of(Map.of("delta", Map.of("content", "{\"summ"))))
+        ) + "\n\n";
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody(firstEvent + "data: [DONE]\n\n")
+                .throttleBody(firstEvent.getBytes(StandardCharsets.UTF_8).length, 5, TimeUnit.SECONDS));
+        AimdLimiter limiter = new AimdLimiter(4, 1, 8, 0, Duration.ZERO, Duration.ofSeconds(20));
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                objectMapper,
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                1000,
+                limiter,
+                breaker(),
+                true,
+                new SimpleMeterRegistry()
+        );
+
+        long startedAt = System.nanoTime();
+        Map<String, Object> result = client.streamSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2),
+                (name, value) -> {
+                }
+        );
+
+        assertEquals("fallback", result.get("source"));
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(4));
+        assertEquals(3.6, limiter.limit(), 1e-9);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void shouldThrowInsteadOfFallingBackOnceSectionsWereForwarded() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        // The stream ends after the first two sections, so the assembled JSON cannot be parsed.
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody(streamBody(objectMapper, "{\"summary\":\"요약\",\"coreTraits\":[\"성향1\"],\"streng")));
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                objectMapper,
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000
+        );
+        List<String> sections = new ArrayList<>();
+
+        ApiClientException ex = assertThrows(ApiClientException.class, () -> client.streamSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2),
+                (name, value) -> sections.add(name)
+        ));
+
+        assertEquals("AI_RESPONSE_INVALID", ex.code());
+        assertEquals(List.of("summary", "coreTraits"), sections);
+    }
+
+    @Test
+    void shouldForwardFallbackSectionsWhenStreamFails() {
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"error\":\"boom\"}"));
+
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                new ObjectMapper(),
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000
+        );
+        List<String> sections = new ArrayList<>();
+
+        Map<String, Object> result = client.streamSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2),
+                (name, value) -> sections.add(name)
+        );
+
+        assertEquals("fallback", result.get("source"));
+        assertEquals(OpenAiAnalysisClient.SECTIONS, sections);
+    }
+
+    @Test
+    void shouldServeFallbackWithoutCallingOpenAiWhenLimiterIsSaturated() {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 1, 0, Duration.ZERO, Duration.ofSeconds(20));
+        limiter.tryAcquire();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                new ObjectMapper(),
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000,
+                limiter,
+                breaker(),
+                true,
+                meterRegistry
+        );
+
+        Map<String, Object> result = client.generateSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2)
+        );
+
+        assertEquals("fallback", result.get("source"));
+        assertEquals(0, server.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter("fortunelog.openai.limiter.rejected").count());
+    }
+
+    @Test
+    void shouldRejectWith429WhenLimiterIsSaturatedAndFallbackIsDisabled() {
+        AimdLimiter limiter = new AimdLimiter(1, 1, 1, 0, Duration.ZERO, Duration.ofSeconds(20));
+        limiter.tryAcquire();
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                new ObjectMapper(),
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000,
+                limiter,
+                breaker(),
+                false,
+                new SimpleMeterRegistry()
+        );
+
+        ApiClientException ex = assertThrows(ApiClientException.class, () -> client.generateSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2)
+        ));
+
+        assertEquals("AI_OVERLOADED", ex.code());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.status());
+    }
+
+    @Test
+    void shouldShrinkLimitWhenOpenAiFails() {
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+        AimdLimiter limiter = new AimdLimiter(4, 1, 8, 0, Duration.ZERO, Duration.ofSeconds(20));
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                new ObjectMapper(),
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000,
+                limiter,
+                breaker(),
+                true,
+                new SimpleMeterRegistry()
+        );
+
+        client.generateSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2)
+        );
+
+        assertEquals(3.6, limiter.limit(), 1e-9);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void shouldServeFallbackWithoutCallingOpenAiWhileCircuitIsOpen() {
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CircuitBreaker breaker = new CircuitBreaker(meterRegistry, "openai", 2, 2, 50, Duration.ofMinutes(1), 1);
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                new ObjectMapper(),
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000,
+                new AimdLimiter(4, 1, 8, 0, Duration.ZERO, Duration.ofSeconds(20)),
+                breaker,
+                true,
+                meterRegistry
+        );
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> result = client.generateSajuInterpretation(
+                    Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                    Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2)
+            );
+            assertEquals("fallback", result.get("source"));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter("fortunelog.circuit_breaker.rejected", "name", "openai").count());
+    }
+
+    @Test
+    void shouldReturnHedgedAnswerWhenPrimaryIsSlow() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(completionBody("느린 응답"))
+                .setHeadersDelay(3, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(completionBody("빠른 응답")));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgingPolicy hedgingPolicy = new HedgingPolicy(90, 10, 1, Duration.ZERO, 10);
+        hedgingPolicy.recordLatency(100, TimeUnit.MILLISECONDS);
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                new ObjectMapper(),
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000,
+                new AimdLimiter(4, 1, 8, 0, Duration.ZERO, Duration.ofSeconds(20)),
+                breaker(),
+                true,
+                meterRegistry,
+                hedgingPolicy,
+                true
+        );
+
+        long startedAt = System.nanoTime();
+        Map<String, Object> result = client.generateSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2)
+        );
+
+        assertEquals("빠른 응답", result.get("summary"));
+        assertEquals("openai", result.get("source"));
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(3));
+        assertEquals(1.0, meterRegistry.counter("fortunelog.openai.hedge.calls", "outcome", "fired").count());
+        assertEquals(1.0, meterRegistry.counter("fortunelog.openai.hedge.calls", "outcome", "won").count());
+        // The slow primary is recorded as at least as slow as the time it ran before the hedge won.
+        assertTrue(hedgingPolicy.hedgeDelayNanos() > TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(server.takeRequest().getBody().readUtf8().contains("\"max_completion_tokens\":3600"));
+        assertTrue(server.takeRequest().getBody().readUtf8().contains("\"max_completion_tokens\":1800"));
+    }
+
+    @Test
+    void shouldNotHedgeWhenBudgetIsSpent() {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(completionBody("느린 응답"))
+                .setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgingPolicy hedgingPolicy = new HedgingPolicy(90, 10, 1, Duration.ZERO, 0);
+        hedgingPolicy.recordLatency(10, TimeUnit.MILLISECONDS);
+        OpenAiAnalysisClient client = new OpenAiAnalysisClient(
+                new ObjectMapper(),
+                "test-key",
+                "gpt-5-mini",
+                server.url("/").toString(),
+                5000,
+                new AimdLimiter(4, 1, 8, 0, Duration.ZERO, Duration.ofSeconds(20)),
+                breaker(),
+                true,
+                meterRegistry,
+                hedgingPolicy,
+                true
+        );
+
+        Map<String, Object> result = client.generateSajuInterpretation(
+                Map.of("year", "갑자", "month", "을축", "day", "병인", "hour", "정묘"),
+                Map.of("wood", 2, "fire", 1, "earth", 2, "metal", 1, "water", 2)
+        );
+
+        assertEquals("느린 응답", result.get("summary"));
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1.0, meterRegistry.counter("fortunelog.openai.hedge.calls", "outcome", "budget_exhausted").count());
+    }
+
+    private static String streamBody(ObjectMapper objectMapper, String content) throws Exception {
+        StringBuilder events = new StringBuilder();
+        for (int start = 0; start < content.length(); start += 7) {
+            String delta = content.substring(start, Math.min(start + 7, content.length()));
+            events.append("data: ")
+                    .append(objectMapper.writeValueAsString(
+                            Map.of("choices", List.of(Map.of("delta", Map.of("content", delta))))
+                    ))
+                    .append("\n\n");
+        }
+        return events.append("data: [DONE]\n\n").toString();
+    }
+
+        private static String completionBody(String summary) {
+        return """
+                {
+                  "choices": [
+                    {
+                      "finish_reason": "stop",
+                      "message": {
+                        "content": "{\\"summary\\":\\"%s\\",\\"coreTraits\\":[],\\"strengths\\":[],\\"cautions\\":[],\\"themes\\":{\\"money\\":\\"m\\",\\"relationship\\":\\"r\\",\\"career\\":\\"c\\",\\"health\\":\\"h\\"},\\"actionTips\\":[],\\"disclaimer\\":\\"d\\"}"
+                      }
+                    }
+                  ]
+                }
+                """.formatted(summary);
+    }
+
+    private static CircuitBreaker breaker() {
+        return new CircuitBreaker(new SimpleMeterRegistry(), "openai", 20, 10, 50, Duration.ofSeconds(30), 2);
+    }
 }
@@ -10,12 +10,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SupabasePersistenceServiceTest {
@@ -62,6 +67,172 @@ class SupabasePersistenceServiceTest {
         assertEquals("return=representation,resolution=merge-duplicates", request.getHeader("Prefer"));
     }
 
+    @Test
+    void shouldSkipChartUpsertWhenKnownRowAlreadyMatches() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-1\"}]"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(
+                "[{\"id\":\"chart-1\",\"chart_json\":{\"year\":\"갑자\"},\"five_elements_json\":{\"wood\":2}}]"
+        ));
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-1\"}]"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("[]"));
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-2\"}]"));
+
+        Map<String, String> chart = Map.of("year", "갑자");
+        assertEquals("chart-1", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 2), EngineVersion.CURRENT));
+        assertEquals("chart-1", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 2), EngineVersion.CURRENT));
+        assertEquals(2, server.getRequestCount());
+        server.takeRequest();
+        RecordedRequest check = server.takeRequest();
+        assertEquals("GET", check.getMethod());
+        assertTrue(check.getPath().contains("id=in.%28chart-1%29"));
+
+        // Different content must be written again.
+        assertEquals("chart-1", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 3), EngineVersion.CURRENT));
+        assertEquals(3, server.getRequestCount());
+
+        // Deleting the user's charts forgets the known rows.
+        service.deleteUserCharts("user-1");
+        assertEquals("chart-2", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 3), EngineVersion.CURRENT));
+        assertEquals(5, server.getRequestCount());
+    }
+
+    @Test
+    void shouldUpsertKnownChartRowThatNoLongerExists() {
+        Map<String, String> chart = Map.of("year", "갑자");
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-1\"}]"));
+        assertEquals("chart-1", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 2), EngineVersion.CURRENT));
+
+        // The row was deleted by another instance: the confirming read misses and the chart is written again.
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("[]"));
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-9\"}]"));
+        assertEquals("chart-9", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 2), EngineVersion.CURRENT));
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void shouldUpsertOnlyUnconfirmedKnownRowsOfChartBatch() throws InterruptedException {
+        List<SupabasePersistenceService.ChartRow> rows = List.of(
+                new SupabasePersistenceService.ChartRow("birth-1", Map.of("year", "갑자"), Map.of("wood", 2)),
+                new SupabasePersistenceService.ChartRow("birth-2", Map.of("year", "을축"), Map.of("earth", 3))
+        );
+        server.enqueue(new MockResponse().setResponseCode(201).setBody(
+                "[{\"id\":\"chart-1\",\"birth_profile_id\":\"birth-1\"},{\"id\":\"chart-2\",\"birth_profile_id\":\"birth-2\"}]"
+        ));
+        assertEquals(Map.of("birth-1", "chart-1", "birth-2", "chart-2"),
+                service.upsertSajuCharts("user-1", rows, EngineVersion.CURRENT).chartIds());
+
+        // Only chart-1 is still stored; chart-2 is upserted again.
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(
+                "[{\"id\":\"chart-1\",\"chart_json\":{\"year\":\"갑자\"},\"five_elements_json\":{\"wood\":2}}]"
+        ));
+        server.enqueue(new MockResponse().setResponseCode(201).setBody(
+                "[{\"id\":\"chart-7\",\"birth_profile_id\":\"birth-2\"}]"
+        ));
+        assertEquals(Map.of("birth-1", "chart-1", "birth-2", "chart-7"),
+                service.upsertSajuCharts("user-1", rows, EngineVersion.CURRENT).chartIds());
+        assertEquals(3, server.getRequestCount());
+        server.takeRequest();
+        assertEquals("GET", server.takeRequest().getMethod());
+        String upsertBody = server.takeRequest().getBody().readUtf8();
+        assertTrue(upsertBody.contains("\"birth_profile_id\":\"birth-2\""));
+        assertFalse(upsertBody.contains("\"birth_profile_id\":\"birth-1\""));
+    }
+
+    @Test
+    void shouldIsolateRowsThatFailTheChartUpsertByBisecting() throws InterruptedException {
+        String fkViolation = "{\"code\":\"23503\",\"message\":\"insert or update on table \\\"saju_charts\\\" "
+                + "violates foreign key constraint \\\"saju_charts_birth_profile_id_fkey\\\"\"}";
+        server.enqueue(new MockResponse().setResponseCode(409).setBody(fkViolation));
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-1\",\"birth_profile_id\":\"birth-1\"}]"));
+        server.enqueue(new MockResponse().setResponseCode(409).setBody(fkViolation));
+        server.enqueue(new MockResponse().setResponseCode(409).setBody(fkViolation));
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-3\",\"birth_profile_id\":\"birth-3\"}]"));
+
+        var result = service.upsertSajuCharts(
+                "user-1",
+                List.of(
+                        new SupabasePersistenceService.ChartRow("birth-1", Map.of("year", "갑자"), Map.of("wood", 2)),
+                        new SupabasePersistenceService.ChartRow("birth-2", Map.of("year", "을축"), Map.of("earth", 3)),
+                        new SupabasePersistenceService.ChartRow("birth-3", Map.of("year", "병인"), Map.of("fire", 1))
+                ),
+                EngineVersion.CURRENT
+        );
+
+        assertEquals(Map.of("birth-1", "chart-1", "birth-3", "chart-3"), result.chartIds());
+        assertEquals(Map.of("birth-2", "BIRTH_PROFILE_NOT_FOUND"), result.errorCodes());
+        assertEquals(5, server.getRequestCount());
+        server.takeRequest();
+        assertTrue(server.takeRequest().getBody().readUtf8().contains("\"birth_profile_id\":\"birth-1\""));
+    }
+
+    @Test
+    void shouldFailWholeChartBatchOnNonRowErrors() {
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"message\":\"boom\"}"));
+
+        assertThrows(IllegalStateException.class, () -> service.upsertSajuCharts(
+                "user-1",
+                List.of(
+                        new SupabasePersistenceService.ChartRow("birth-1", Map.of("year", "갑자"), Map.of("wood", 2)),
+                        new SupabasePersistenceService.ChartRow("birth-2", Map.of("year", "을축"), Map.of("earth", 3))
+                ),
+                EngineVersion.CURRENT
+        ));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void shouldForgetKnownChartRowsWhenChartWasDeletedElsewhere() {
+        Map<String, String> chart = Map.of("year", "갑자");
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-1\"}]"));
+        assertEquals("chart-1", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 2), EngineVersion.CURRENT));
+
+        // Another instance deleted the row: the report write hits the chart foreign key.
+        server.enqueue(new MockResponse().setResponseCode(409).setBody(
+                "{\"code\":\"23503\",\"message\":\"insert or update on table \\\"reports\\\" violates foreign key constraint\"}"
+        ));
+        assertThrows(IllegalStateException.class, () -> service.insertReport(
+                "user-1", "chart-1", "saju", Map.of("summary", "x"), false, true
+        ));
+
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-2\"}]"));
+        assertEquals("chart-2", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 2), EngineVersion.CURRENT));
+
+        // A chart lookup miss forgets the known row as well.
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("[]"));
+        assertNull(service.findChartSnapshot("user-1", "chart-2"));
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"chart-3\"}]"));
+        assertEquals("chart-3", service.insertSajuChart("user-1", "birth-1", chart, Map.of("wood", 2), EngineVersion.CURRENT));
+        assertEquals(5, server.getRequestCount());
+    }
+
+    @Test
+    void shouldUpsertChartsInSingleRequestAndMapIdsByBirthProfile() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody(
+                "[{\"id\":\"chart-2\",\"birth_profile_id\":\"birth-2\"},{\"id\":\"chart-1\",\"birth_profile_id\":\"birth-1\"}]"
+        ));
+
+        Map<String, String> ids = service.upsertSajuCharts(
+                "user-1",
+                List.of(
+                        new SupabasePersistenceService.ChartRow("birth-1", Map.of("year", "갑자"), Map.of("wood", 2)),
+                        new SupabasePersistenceService.ChartRow("birth-2", Map.of("year", "을축"), Map.of("earth", 3))
+                ),
+                EngineVersion.CURRENT
+        ).chartIds();
+
+        assertEquals(Map.of("birth-1", "chart-1", "birth-2", "chart-2"), ids);
+        assertEquals(1, server.getRequestCount());
+
+        RecordedRequest request = server.takeRequest();
+        assertTrue(request.getPath().contains("/rest/v1/saju_charts"));
+        assertTrue(request.getPath().contains("select=id%2Cbirth_profile_id"));
+        assertTrue(request.getPath().contains("on_conflict=user_id%2Cbirth_profile_id%2Cengine_version"));
+        assertEquals("return=representation,resolution=merge-duplicates", request.getHeader("Prefer"));
+        String body = request.getBody().readUtf8();
+        assertTrue(body.contains("\"birth_profile_id\":\"birth-1\""));
+        assertTrue(body.contains("\"birth_profile_id\":\"birth-2\""));
+    }
+
     @Test
     void shouldInsertDailyReportWithoutUpsert() throws InterruptedException {
         server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"report-1\"}]"));
@@ -174,6 +345,42 @@ class SupabasePersistenceServiceTest {
         assertTrue(third.getPath().contains("report_type=eq.ai_interpretation"));
     }
 
+    @Test
+    void shouldReadPersistedAiInterpretationJobOfUser() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(
+                "[{\"id\":\"job-1\",\"chart_id\":\"chart-1\",\"status\":\"failed\",\"error_code\":\"CHART_NOT_FOUND\","
+                        + "\"error_message\":\"no chart\",\"created_at\":\"2026-03-20T01:02:03.456789+00:00\"}]"
+        ));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("[]"));
+
+        var row = service.findAiInterpretationJob("user-1", "job-1");
+
+        assertEquals("chart-1", row.chartId());
+        assertEquals("failed", row.status());
+        assertEquals("CHART_NOT_FOUND", row.errorCode());
+        assertEquals(Instant.parse("2026-03-20T01:02:03.456789Z"), row.createdAt());
+        String path = URLDecoder.decode(server.takeRequest().getPath(), StandardCharsets.UTF_8);
+        assertTrue(path.startsWith("/rest/v1/ai_interpretation_jobs"));
+        assertTrue(path.contains("id=eq.job-1"));
+        assertTrue(path.contains("user_id=eq.user-1"));
+        assertNull(service.findAiInterpretationJob("user-1", "job-2"));
+    }
+
+    @Test
+    void shouldClaimScheduledJobRunOnlyOnce() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"run-1\"}]"));
+        server.enqueue(new MockResponse().setResponseCode(409).setBody(
+                "{\"code\":\"23505\",\"message\":\"duplicate key value violates unique constraint \\\"uq_scheduled_job_runs_job_run\\\"\"}"
+        ));
+
+        assertTrue(service.claimScheduledJobRun("daily_fortune_pregeneration", "2026-02-14", "instance-1"));
+        assertFalse(service.claimScheduledJobRun("daily_fortune_pregeneration", "2026-02-14", "instance-2"));
+
+        RecordedRequest request = server.takeRequest();
+        assertTrue(request.getPath().contains("/rest/v1/scheduled_job_runs"));
+        assertTrue(request.getBody().readUtf8().contains("\"run_key\":\"2026-02-14\""));
+    }
+
     @Test
     void shouldMarkWebhookEventAsDuplicateWhenUniqueConstraintHits() throws Exception {
         server.enqueue(new MockResponse().setResponseCode(409).setBody(
@@ -400,4 +607,95 @@ class SupabasePersistenceServiceTest {
         assertTrue(request.getPath().contains("user_id=eq.user-1"));
         assertTrue(request.getPath().contains("is_paid_content=is.true"));
     }
+
+    @Test
+    void shouldReadActiveChartsByKeysetPage() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(
+                "[{\"id\":\"chart-2\",\"user_id\":\"user-1\",\"chart_json\":{\"day\":\"신축\"},"
+                        + "\"five_elements_json\":{\"earth\":4},\"profiles\":{\"is_deactivated\":false}}]"
+        ));
+
+        var charts = service.findActiveChartsPage(EngineVersion.CURRENT, "chart-1", 500);
+
+        assertEquals(1, charts.size());
+        assertEquals("chart-2", charts.get(0).chartId());
+        assertEquals("user-1", charts.get(0).userId());
+        assertEquals("신축", charts.get(0).snapshot().chart().get("day"));
+        RecordedRequest request = server.takeRequest();
+        assertTrue(request.getPath().contains("profiles.is_deactivated=eq.false"));
+        assertTrue(request.getPath().contains("id=gt.chart-1"));
+        assertTrue(request.getPath().contains("order=id.asc"));
+        assertTrue(request.getPath().contains("limit=500"));
+    }
+
+    @Test
+    void shouldUpsertDailyFortuneReportsInOneRequest() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(201).setBody("[{\"id\":\"r-1\"},{\"id\":\"r-2\"}]"));
+
+        int written = service.upsertDailyFortuneReports(List.of(
+                new SupabasePersistenceService.DailyFortuneRow("user-1", "chart-1", LocalDate.of(2026, 2, 14), "{\"score\":70}".getBytes(StandardCharsets.UTF_8)),
+                new SupabasePersistenceService.DailyFortuneRow("user-2", "chart-2", LocalDate.of(2026, 2, 14), "{\"score\":80}".getBytes(StandardCharsets.UTF_8))
+        ));
+
+        assertEquals(2, written);
+        RecordedRequest request = server.takeRequest();
+        assertTrue(request.getPath().contains("on_conflict=user_id%2Cchart_id%2Creport_type%2Ctarget_date"));
+        var body = new ObjectMapper().readTree(request.getBody().readUtf8());
+        assertEquals(2, body.size());
+        assertEquals("daily", body.get(1).get("report_type").asText());
+        assertEquals("2026-02-14", body.get(1).get("target_date").asText());
+        assertEquals(80, body.get(1).get("content_json").get("score").asInt());
+    }
+
+    @Test
+    void shouldReturnStoredDailyFortuneOrNullWhenIncomplete() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(
+                "[{\"target_date\":\"2026-02-14\",\"content_json\":{\"date\":\"2026-02-14\",\"score\":74,\"summary\":\"s\","
+                        + "\"category\":{\"love\":\"l\"},\"categoryDetails\":{},\"actions\":[\"a\"]}}]"
+        ));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody(
+                "[{\"target_date\":\"2026-02-14\",\"content_json\":{\"score\":74}}]"
+        ));
+
+        var stored = service.findDailyFortune("user-1", "chart-1", LocalDate.of(2026, 2, 14));
+        assertEquals(74, stored.score());
+        assertEquals(LocalDate.of(2026, 2, 14), stored.date());
+        assertEquals(List.of("a"), stored.actions());
+        assertTrue(server.takeRequest().getPath().contains("visible=is.true"));
+
+        assertNull(service.findDailyFortune("user-1", "chart-1", LocalDate.of(2026, 2, 14)));
+    }
+
+    @Test
+    void shouldReadStoredReportContentAsCompactJson() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("[{\"content_json\": {\"score\": 74}}]"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("[]"));
+
+        assertEquals("{\"score\":74}", service.findReportContentJson("user-1", "chart-1", "daily", LocalDate.of(2026, 2, 14)));
+        assertNull(service.findReportContentJson("user-1", "chart-1", "career", null));
+
+        RecordedRequest daily = server.takeRequest();
+        assertTrue(daily.getPath().contains("report_type=eq.daily"));
+        assertTrue(daily.getPath().contains("target_date=eq.2026-02-14"));
+        assertTrue(daily.getPath().contains("visible=is.true"));
+        RecordedRequest career = server.takeRequest();
+        assertFalse(career.getPath().contains("target_date"));
+        assertTrue(career.getPath().contains("order=created_at.desc"));
+    }
+
+    @Test
+    void shouldFindAiInterpretationBySignature() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(200)
+                .setBody("[{\"content_json\": {\"summary\": \"요약\", \"signature\": \"sig-1\"}}]"));
+        server.enqueue(new MockResponse().setResponseCode(200).setBody("[]"));
+
+        Map<String, Object> found = service.findAiInterpretation("user-1", "chart-1", "sig-1");
+
+        assertEquals("요약", found.get("summary"));
+        assertNull(service.findAiInterpretation("user-1", "chart-1", "sig-2"));
+        String path = URLDecoder.decode(server.takeRequest().getPath(), StandardCharsets.UTF_8);
+        assertTrue(path.contains("report_type=eq.ai_interpretation"));
+        assertTrue(path.contains("content_json->>signature=eq.sig-1"));
+        assertTrue(path.contains("visible=is.true"));
+    }
 }